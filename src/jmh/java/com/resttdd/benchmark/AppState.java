@@ -0,0 +1,78 @@
+package com.resttdd.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.resttdd.RestTddApplication;
+import com.resttdd.domain.member.member.entity.Member;
+import com.resttdd.domain.member.member.service.MemberService;
+import com.resttdd.domain.post.post.entity.Post;
+import com.resttdd.domain.post.post.service.PostService;
+
+// bench 프로필(H2 메모리 DB)로 애플리케이션을 띄우고 대량의 글/댓글을 넣어둔다.
+// 규모는 @Param 값으로 조정한다. (jmh jar 실행 시 -p posts=100000)
+@State(Scope.Benchmark)
+public class AppState {
+
+	private static final int SEED_BATCH_SIZE = 1000;
+
+	@Param({"10000"})
+	public int posts;
+
+	@Param({"1000"})
+	public int commentsPerPost;
+
+	public ConfigurableApplicationContext context;
+	public long hotPostId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(RestTddApplication.class)
+			.profiles("bench")
+			.run();
+
+		MemberService memberService = context.getBean(MemberService.class);
+		PostService postService = context.getBean(PostService.class);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+			context.getBean(PlatformTransactionManager.class));
+
+		Member author = memberService.findByUsername("user1").get();
+		Member commenter = memberService.findByUsername("user2").get();
+
+		for (int from = 0; from < posts; from += SEED_BATCH_SIZE) {
+			int start = from;
+			int end = Math.min(from + SEED_BATCH_SIZE, posts);
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int i = start; i < end; i++) {
+					postService.write(author, "bench title " + i, "bench content " + i, true, true);
+				}
+			});
+		}
+
+		hotPostId = postService.write(author, "hot post", "hot post content", true, true).getId();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Post hotPost = postService.getItem(hotPostId).get();
+			for (int i = 0; i < commentsPerPost; i++) {
+				hotPost.addComment(commenter, "bench comment " + i);
+			}
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+}
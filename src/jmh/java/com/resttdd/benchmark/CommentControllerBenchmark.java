@@ -0,0 +1,53 @@
+package com.resttdd.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.resttdd.domain.post.comment.controller.ApiV1CommentController;
+import com.resttdd.domain.post.comment.dto.CommentDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentControllerBenchmark {
+
+	private static final int PAGE_SIZE = 30;
+
+	private ApiV1CommentController commentController;
+	private long hotPostId;
+	private int lastPage;
+
+	@Setup
+	public void setUp(AppState app) {
+		commentController = app.getBean(ApiV1CommentController.class);
+		hotPostId = app.hotPostId;
+		lastPage = Math.max(1, app.commentsPerPost / PAGE_SIZE);
+	}
+
+	@Benchmark
+	public ResponseEntity<List<CommentDto>> getItemsFirstPage() {
+		return commentController.getItems(hotPostId, null, 0, PAGE_SIZE, newWebRequest());
+	}
+
+	@Benchmark
+	public ResponseEntity<List<CommentDto>> getItemsLastPage() {
+		return commentController.getItems(hotPostId, lastPage, 0, PAGE_SIZE, newWebRequest());
+	}
+
+	// If-None-Match 가 없는 요청이라 매번 댓글을 끝까지 조회한다. (checkNotModified 결과가 요청에 남으므로 호출마다 새로 만든다)
+	private static ServletWebRequest newWebRequest() {
+		return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+	}
+}
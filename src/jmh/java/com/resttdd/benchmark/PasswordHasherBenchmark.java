@@ -0,0 +1,65 @@
+package com.resttdd.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.resttdd.global.security.PasswordHasher;
+
+// custom.password.strength 를 고르기 위한 벤치마크. SampleTime 모드라 결과에 p50/p99 가 함께 나온다.
+// matches 한 번의 시간이 로그인 p99 의 하한이고, verifyOnPool 은 풀(4스레드)에 요청이 몰렸을 때 대기 시간까지 포함한다.
+// ./gradlew jmh -Pjmh.includes=PasswordHasherBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHasherBenchmark {
+
+	private static final String RAW_PASSWORD = "user11234";
+
+	@Param({"8", "10", "12"})
+	private int strength;
+
+	private BCryptPasswordEncoder encoder;
+	private PasswordHasher passwordHasher;
+	private String hashed;
+
+	@Setup
+	public void setUp() {
+		encoder = new BCryptPasswordEncoder(strength);
+		hashed = encoder.encode(RAW_PASSWORD);
+		passwordHasher = new PasswordHasher(strength, 4, 64, Duration.ofSeconds(30));
+	}
+
+	@TearDown
+	public void tearDown() {
+		passwordHasher.shutdown();
+	}
+
+	@Benchmark
+	public String encode() {
+		return encoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return encoder.matches(RAW_PASSWORD, hashed);
+	}
+
+	// 동시 로그인 8건이 4스레드 풀을 나눠 쓸 때 요청 한 건이 기다리는 시간까지 포함한 지연
+	@Benchmark
+	@Threads(8)
+	public boolean verifyOnPool() {
+		return passwordHasher.matches(RAW_PASSWORD, hashed);
+	}
+}
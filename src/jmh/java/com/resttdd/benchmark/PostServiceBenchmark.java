@@ -0,0 +1,75 @@
+package com.resttdd.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+
+import com.resttdd.domain.post.post.dto.PostDto;
+import com.resttdd.domain.post.post.dto.PostWithContnetDto;
+import com.resttdd.domain.post.post.service.PostService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostServiceBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private PostService postService;
+	private long hotPostId;
+	private int lastPage;
+	private long deepCursor;
+
+	@Setup
+	public void setUp(AppState app) {
+		postService = app.getBean(PostService.class);
+		hotPostId = app.hotPostId;
+		lastPage = Math.max(1, app.posts / PAGE_SIZE);
+		deepCursor = Math.max(0, hotPostId - PAGE_SIZE - 1);
+	}
+
+	@Benchmark
+	public Page<PostDto> listedItemsFirstPage() {
+		return postService.getListedItems(1, PAGE_SIZE, "title", "");
+	}
+
+	@Benchmark
+	public Page<PostDto> listedItemsLastPage() {
+		return postService.getListedItems(lastPage, PAGE_SIZE, "title", "");
+	}
+
+	@Benchmark
+	public List<PostDto> listedItemsDeepCursor() {
+		return postService.getListedItemsAfter(deepCursor, PAGE_SIZE, "title", "");
+	}
+
+	@Benchmark
+	public Page<PostDto> listedItemsSearchTitle() {
+		return postService.getListedItems(1, PAGE_SIZE, "title", "title 99");
+	}
+
+	@Benchmark
+	public Page<PostDto> listedItemsSearchContent() {
+		return postService.getListedItems(1, PAGE_SIZE, "content", "content 12");
+	}
+
+	// 캐시를 거치지 않고 엔티티 조회 + PostWithContnetDto 매핑 비용
+	@Benchmark
+	public Optional<PostWithContnetDto> getItemWithMapping() {
+		return postService.getItemWithAuthor(hotPostId).map(PostWithContnetDto::new);
+	}
+
+	@Benchmark
+	public Optional<PostWithContnetDto> getItemCached() {
+		return postService.getItemWithContent(hotPostId);
+	}
+}
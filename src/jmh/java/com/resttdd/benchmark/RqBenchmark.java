@@ -0,0 +1,57 @@
+package com.resttdd.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.resttdd.domain.member.member.entity.Member;
+import com.resttdd.domain.member.member.repository.MemberRepository;
+import com.resttdd.global.Rq;
+
+// Rq 는 요청 스코프 빈이므로 벤치마크 스레드마다 가짜 요청을 바인딩해 둔다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RqBenchmark {
+
+	private Rq rq;
+	private MemberRepository memberRepository;
+
+	@Setup(Level.Trial)
+	public void setUp(AppState app) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer user1");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		rq = app.getBean(Rq.class);
+		memberRepository = app.getBean(MemberRepository.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public Member getAuthenticatedActor() {
+		return rq.getAuthenticatedActor();
+	}
+
+	// 캐시 없이 DB 에서 직접 조회하는 비용 (비교용)
+	@Benchmark
+	public Optional<Member> findByApiKeyUncached() {
+		return memberRepository.findByApiKey("user1");
+	}
+}
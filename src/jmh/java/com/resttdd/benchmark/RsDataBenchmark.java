@@ -0,0 +1,134 @@
+package com.resttdd.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resttdd.domain.post.post.dto.PageDto;
+import com.resttdd.domain.post.post.dto.PostDto;
+import com.resttdd.global.dto.RsCode;
+import com.resttdd.global.dto.RsData;
+
+// 스프링 컨텍스트 없이 응답 객체 직렬화 비용만 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RsDataBenchmark {
+
+	// 20: 기본 크기 정도, 100: 서버가 허용하는 최대 pageSize (AppConfig.MAX_PAGE_SIZE)
+	@Param({"20", "100"})
+	private int pageSize;
+
+	private ObjectMapper objectMapper;
+	private RsData<PageDto> pageRsData;
+	private RsData<Void> emptyRsData;
+
+	// 응답 크기는 시간/할당과 달리 입력에 대해 고정이라, 측정한 호출이 만든 크기를 그대로 보조 지표(jsonBytes, gzipBytes)로 낸다.
+	// 합산(EVENTS) 카운터이므로 반복(iteration)마다 0 으로 되돌리고 더하지 않고 덮어쓴다. (단일 스레드 기준)
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class JsonSize {
+		public long jsonBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			jsonBytes = 0;
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class GzipSize {
+		public long gzipBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			gzipBytes = 0;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		LocalDateTime now = LocalDateTime.now();
+		List<PostDto> posts = LongStream.rangeClosed(1, pageSize)
+			.mapToObj(id -> new PostDto(id, now, now, "title " + id, 1L, "유저1", true, true, 3L, "댓글", "유저2", now))
+			.toList();
+
+		pageRsData = new RsData<>(
+			"200-1",
+			"글 목록 조회가 완료되었습니다.",
+			new PageDto(new PageImpl<>(posts, PageRequest.of(0, pageSize), 10_000))
+		);
+		emptyRsData = new RsData<>("200-1", "1번 글 삭제가 완료되었습니다.");
+	}
+
+	@Benchmark
+	public byte[] serializePage(JsonSize size) throws JsonProcessingException {
+		byte[] json = objectMapper.writeValueAsBytes(pageRsData);
+		size.jsonBytes = json.length;
+		return json;
+	}
+
+	// 메시지 컨버터처럼 응답 스트림에 바로 쓴다. (전체 byte[] 를 만들지 않으므로 할당은 Jackson 버퍼 정도만 남는다)
+	@Benchmark
+	public void serializePageToStream() throws IOException {
+		objectMapper.writeValue(OutputStream.nullOutputStream(), pageRsData);
+	}
+
+	// server.compression 이 켜진 응답: 직렬화 + gzip. 반환값은 압축된 크기
+	@Benchmark
+	public int serializePageGzip(GzipSize size) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			objectMapper.writeValue(gzip, pageRsData);
+		}
+		size.gzipBytes = out.size();
+		return out.size();
+	}
+
+	@Benchmark
+	public byte[] serializeEmpty() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(emptyRsData);
+	}
+
+	// 응답 한 건마다 ResponseAspect / ServiceException 이 치르던 비용: split + parseInt
+	@Benchmark
+	public int statusCodeLegacy() {
+		return Integer.parseInt(pageRsData.getCode().split("-")[0]);
+	}
+
+	// RsCode 에 미리 파싱된 값을 읽기만 한다.
+	@Benchmark
+	public int statusCode() {
+		return pageRsData.getStatusCode();
+	}
+
+	// 문자열 코드로 RsData 를 만들 때의 RsCode 조회 비용 (캐시 적중, 할당 없음)
+	@Benchmark
+	public RsCode resolveCode() {
+		return RsCode.of("404-2");
+	}
+}
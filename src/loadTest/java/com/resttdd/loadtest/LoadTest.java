@@ -0,0 +1,103 @@
+package com.resttdd.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 닫힌 루프(closed-loop) 부하 테스트: concurrency 개의 클라이언트가 응답을 받는 즉시 다음 요청을 보낸다.
+// 글 목록, 글 단건, 댓글 목록, 내 정보(인증) 요청을 섞어서 보내며, 모두 JDBC 호출이 있는 엔드포인트다.
+public class LoadTest {
+
+	private static final List<String> PATHS = List.of(
+		"/api/v1/posts?page=1&pageSize=10",
+		"/api/v1/posts/3",
+		"/api/v1/posts/1/comments",
+		"/api/v1/members/me"
+	);
+
+	public static void main(String[] args) throws Exception {
+		String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+		int concurrency = Integer.getInteger("concurrency", 200);
+		int requests = Integer.getInteger("requests", 20000);
+		int warmup = Integer.getInteger("warmup", 2000);
+		String label = System.getProperty("label", "default");
+
+		HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.build();
+
+		run(client, baseUrl, concurrency, warmup, new long[warmup]);
+
+		long[] latencies = new long[requests];
+		long startedAt = System.nanoTime();
+		int errors = run(client, baseUrl, concurrency, requests, latencies);
+		long elapsed = System.nanoTime() - startedAt;
+
+		report(label, concurrency, requests, errors, elapsed, latencies);
+	}
+
+	private static int run(HttpClient client, String baseUrl, int concurrency, int requests, long[] latencies)
+		throws InterruptedException {
+		AtomicInteger next = new AtomicInteger();
+		AtomicLong errors = new AtomicLong();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				executor.submit(() -> {
+					int n;
+					while ((n = next.getAndIncrement()) < requests) {
+						HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATHS.get(n % PATHS.size())))
+							.header("Authorization", "Bearer user1")
+							.timeout(Duration.ofSeconds(30))
+							.GET()
+							.build();
+
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() >= 400) errors.incrementAndGet();
+						} catch (Exception e) {
+							errors.incrementAndGet();
+						}
+						latencies[n] = System.nanoTime() - start;
+					}
+				});
+			}
+		}
+
+		return (int)errors.get();
+	}
+
+	private static void report(String label, int concurrency, int requests, int errors, long elapsedNanos,
+		long[] latencies) {
+		Arrays.sort(latencies);
+
+		double seconds = elapsedNanos / 1_000_000_000.0;
+
+		System.out.printf("[%s] concurrency=%d requests=%d errors=%d%n", label, concurrency, requests, errors);
+		System.out.printf("[%s] throughput: %.1f req/s%n", label, requests / seconds);
+		System.out.printf("[%s] latency(ms) p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+			label,
+			percentile(latencies, 0.50),
+			percentile(latencies, 0.90),
+			percentile(latencies, 0.99),
+			percentile(latencies, 0.999),
+			latencies[latencies.length - 1] / 1_000_000.0
+		);
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		int index = (int)Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+}
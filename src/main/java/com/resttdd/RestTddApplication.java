@@ -2,14 +2,22 @@ package com.resttdd;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class RestTddApplication {
 
+	// 기동 단계별 소요 시간을 버퍼에 남긴다. (StartupConfig 의 기동 리포트)
+	private static final int STARTUP_EVENT_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(RestTddApplication.class, args);
+		SpringApplication application = new SpringApplication(RestTddApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_EVENT_CAPACITY));
+		application.run(args);
 	}
 
 }
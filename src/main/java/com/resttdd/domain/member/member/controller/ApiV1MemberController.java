@@ -54,7 +54,8 @@ public class ApiV1MemberController {
 		Member member = memberService.findByUsername(body.username())
 			.orElseThrow(() -> new ServiceException("401-1", "잘못된 아이디입니다."));
 
-		if (!member.getPassword().equals(body.password())) {
+		// 해시 비교는 PasswordHasher 의 전용 풀에서 돈다. 풀이 밀려 있으면 429-1 로 거절된다.
+		if (!memberService.checkPassword(member, body.password())) {
 			throw new ServiceException("401-2", "비밀번호가 일치하지 않습니다.");
 		}
 
@@ -0,0 +1,28 @@
+package com.resttdd.domain.member.member.dto;
+
+import java.time.LocalDateTime;
+
+import com.resttdd.domain.member.member.entity.Member;
+
+// apiKey -> 회원 캐시에 넣는 불변 값. 엔티티 인스턴스를 캐시하면 동시에 들어온 요청들이 같은 객체를 나눠 쓰게 되므로,
+// 인증에 필요한 값만 복사해 두고 Rq 가 요청마다 새 Member 를 만든다. (비밀번호는 담지 않는다)
+public record MemberSnapshot(
+        long id,
+        String username,
+        String nickname,
+        String apiKey,
+        LocalDateTime createdDate,
+        LocalDateTime modifiedDate
+) {
+
+    public MemberSnapshot(Member member) {
+        this(
+                member.getId(),
+                member.getUsername(),
+                member.getNickname(),
+                member.getApiKey(),
+                member.getCreatedDate(),
+                member.getModifiedDate()
+        );
+    }
+}
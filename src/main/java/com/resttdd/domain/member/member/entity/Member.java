@@ -1,5 +1,6 @@
 package com.resttdd.domain.member.member.entity;
 
+import com.resttdd.domain.member.member.dto.MemberSnapshot;
 import com.resttdd.global.entity.BaseTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,7 +14,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, MemberCacheEvictListener.class})
 public class Member extends BaseTime {
 
     @Column(length = 100, unique = true)
@@ -25,6 +26,19 @@ public class Member extends BaseTime {
     @Column(length = 100)
     private String nickname;
 
+    // 캐시된 스냅샷으로 요청마다 새 인스턴스를 만든다. 영속 상태가 아닌 엔티티라 권한 확인과 연관관계 참조(id)에만 쓴다.
+    public static Member of(MemberSnapshot snapshot) {
+        Member member = Member.builder()
+                .username(snapshot.username())
+                .nickname(snapshot.nickname())
+                .apiKey(snapshot.apiKey())
+                .build();
+        member.setId(snapshot.id());
+        member.setCreatedDate(snapshot.createdDate());
+        member.setModifiedDate(snapshot.modifiedDate());
+        return member;
+    }
+
     public boolean isAdmin() {
         return username.equals("admin");
     }
@@ -0,0 +1,27 @@
+package com.resttdd.domain.member.member.entity;
+
+import com.resttdd.global.cache.CacheConfig;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// 회원 정보가 바뀌면 apiKey -> 회원 캐시를 비운다.
+// apiKey 자체가 바뀌는 경우 이전 키를 알 수 없으므로 해당 캐시 전체를 비운다. (회원 변경은 드물다)
+@Component
+@RequiredArgsConstructor
+public class MemberCacheEvictListener {
+
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfig.MEMBER_BY_API_KEY))
+                .ifPresent(Cache::clear);
+    }
+}
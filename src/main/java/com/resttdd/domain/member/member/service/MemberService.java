@@ -1,9 +1,13 @@
 package com.resttdd.domain.member.member.service;
 
+import com.resttdd.domain.member.member.dto.MemberSnapshot;
 import com.resttdd.domain.member.member.entity.Member;
 import com.resttdd.domain.member.member.repository.MemberRepository;
+import com.resttdd.global.cache.CacheConfig;
+import com.resttdd.global.security.PasswordHasher;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -14,12 +18,13 @@ import java.util.UUID;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final PasswordHasher passwordHasher;
 
     public Member join(String username, String password, String nickname) {
 
         Member member = Member.builder()
                 .username(username)
-                .password(password)
+                .password(passwordHasher.hash(password))
                 .apiKey(username)
                 .nickname(nickname)
                 .build();
@@ -27,6 +32,20 @@ public class MemberService {
         return memberRepository.save(member);
     }
 
+    // 비밀번호가 맞으면, 평문이거나 약하게 해시된 기존 비밀번호를 현재 설정으로 다시 해시해서 저장한다.
+    public boolean checkPassword(Member member, String rawPassword) {
+        if (!passwordHasher.matches(rawPassword, member.getPassword())) {
+            return false;
+        }
+
+        if (passwordHasher.needsUpgrade(member.getPassword())) {
+            member.setPassword(passwordHasher.hash(rawPassword));
+            memberRepository.save(member);
+        }
+
+        return true;
+    }
+
     public long count() {
         return memberRepository.count();
     }
@@ -42,4 +61,12 @@ public class MemberService {
     public Optional<Member> findByApiKey(String apiKey) {
         return memberRepository.findByApiKey(apiKey);
     }
+
+    // 인증이 필요한 모든 요청이 거치므로 캐시한다. 존재하지 않는 키는 캐시하지 않는다.
+    // 엔티티가 아닌 불변 스냅샷을 캐시해서 요청들이 같은 가변 객체를 공유하지 않게 한다.
+    // 회원 정보가 바뀌면 MemberCacheEvictListener 가 캐시를 비운다.
+    @Cacheable(cacheNames = CacheConfig.MEMBER_BY_API_KEY, key = "#apiKey", unless = "#result == null")
+    public Optional<MemberSnapshot> findSnapshotByApiKey(String apiKey) {
+        return memberRepository.findByApiKey(apiKey).map(MemberSnapshot::new);
+    }
 }
\ No newline at end of file
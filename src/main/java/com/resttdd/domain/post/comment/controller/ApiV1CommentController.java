@@ -2,6 +2,9 @@ package com.resttdd.domain.post.comment.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,18 +13,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.resttdd.domain.member.member.entity.Member;
 import com.resttdd.domain.post.comment.dto.CommentDto;
 import com.resttdd.domain.post.comment.entity.Comment;
-import com.resttdd.domain.post.post.entity.Post;
+import com.resttdd.domain.post.comment.service.CommentService;
 import com.resttdd.domain.post.post.service.PostService;
 import com.resttdd.global.Rq;
+import com.resttdd.global.app.AppConfig;
 import com.resttdd.global.dto.RsData;
 import com.resttdd.global.exception.ServiceException;
 
 import jakarta.persistence.EntityManager;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -30,20 +39,34 @@ import lombok.RequiredArgsConstructor;
 public class ApiV1CommentController {
 
 	private final PostService postService;
+	private final CommentService commentService;
 	private final Rq rq;
 	private final EntityManager em;
 
+	// page 를 주면 OFFSET 페이징, 아니면 after(댓글 id) 이후부터 커서 방식으로 조회한다.
+	// 응답 본문은 댓글 배열 그대로이고, 다음 페이지 정보는 헤더(X-Has-Next, X-Next-Cursor, Link)로 준다.
 	@GetMapping
 	@Transactional(readOnly = true) // 조회만 하는 메서드라면 readOnly를 적용하는게 낫다
-	public List<CommentDto> getItems(@PathVariable long postId) {
-
-		Post post = postService.getItem(postId).orElseThrow(
+	public ResponseEntity<List<CommentDto>> getItems(
+		@PathVariable long postId,
+		@RequestParam(required = false) @Min(1) Integer page,
+		@RequestParam(defaultValue = "0") long after,
+		@RequestParam(defaultValue = "30") @Min(1) @Max(AppConfig.MAX_PAGE_SIZE) int pageSize,
+		WebRequest webRequest
+	) {
+
+		long commentVersion = postService.getCommentVersion(postId).orElseThrow(
 			() -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
 		);
 
+		// 댓글이 작성/수정/삭제될 때마다 글의 commentVersion 이 올라가므로, 그대로면 댓글을 읽지 않고 304 를 준다.
+		if (webRequest.checkNotModified("W/\"comments-%d-%d\"".formatted(postId, commentVersion))) {
+			return null;
+		}
+
 		// OSIV(Open Session In View) 설정 (default: true)
-		// 원래대로라면 아래의 코드는 영속성 컨텍스트가 닫혀 getComments()에 실패해야 한다.
-		// 하지만 정상적으로 작동하는 이유는, SpringBoot가 컨트롤러에 한해서 영속성 컨텍스트를 유지시켜주기 때문이다.
+		// 엔티티의 Lazy 로딩 데이터를 컨트롤러/뷰에서 꺼내 쓰려면 영속성 컨텍스트가 열려 있어야 한다.
+		// SpringBoot는 OSIV가 켜져 있으면 컨트롤러(뷰)까지 영속성 컨텍스트를 유지시켜준다.
 
 		// Repository
 		// Service
@@ -59,23 +82,51 @@ public class ApiV1CommentController {
 
 		// 타임리프를 사용한다면, OSIV를 켜고 하는게 편하다.
 		// 하지만, RESTful로 만든다면 View를 신경쓰지 않아도 되므로 불필요한 자원 소모를 줄이도록 끄는게 낫다.(물론 켜도 잘되긴 한다)
-		return post.getComments()
-			.stream()
-			.map(CommentDto::new)
-			.toList();
+		// 여기서는 댓글을 작성자와 조인해 DTO 로 바로 조회하므로 Lazy 로딩 자체가 일어나지 않는다.
+		Slice<CommentDto> comments = page != null
+			? commentService.getItems(postId, page, pageSize)
+			: commentService.getItemsAfter(postId, after, pageSize);
+
+		return withNextPageHeaders(postId, page, pageSize, comments);
+	}
+
+	// 목록만 돌려주면 pageSize 에서 잘린 건지 끝인지 알 수 없으므로, 본문 모양은 바꾸지 않고 헤더로 다음 페이지를 알려준다.
+	// Slice 는 pageSize + 1 개를 읽어서 다음 페이지 존재 여부만 판단한다. (COUNT 쿼리 없음)
+	private static ResponseEntity<List<CommentDto>> withNextPageHeaders(
+		long postId,
+		Integer page,
+		int pageSize,
+		Slice<CommentDto> comments
+	) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Has-Next", String.valueOf(comments.hasNext()));
+
+		if (comments.hasNext()) {
+			long nextCursor = comments.getContent().getLast().getId(); // 다음 요청 시 after 로 전달할 값
+
+			UriComponentsBuilder next = UriComponentsBuilder
+				.fromPath("/api/v1/posts/{postId}/comments")
+				.queryParam("pageSize", pageSize);
+			if (page != null) {
+				next.queryParam("page", page + 1);
+			} else {
+				next.queryParam("after", nextCursor);
+			}
+
+			headers.set("X-Next-Cursor", String.valueOf(nextCursor));
+			headers.set(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next.buildAndExpand(postId).toUriString()));
+		}
+
+		return ResponseEntity.ok().headers(headers).body(comments.getContent());
 	}
 
 	@GetMapping("{id}")
 	@Transactional(readOnly = true)
 	public CommentDto getItem(@PathVariable long postId, @PathVariable long id) {
 
-		Post post = postService.getItem(postId).orElseThrow(
-			() -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+		return commentService.getItemDto(postId, id).orElseThrow(
+			() -> notFound(postId)
 		);
-
-		Comment comment = post.getCommentById(id);
-
-		return new CommentDto(comment);
 	}
 
 
@@ -98,6 +149,36 @@ public class ApiV1CommentController {
 	}
 
 
+	private static final int MAX_BATCH_SIZE = 1000;
+
+	// 인증과 글 존재 확인은 한 번만 하고, 댓글들은 한 트랜잭션에서 배치 INSERT 한다.
+	@PostMapping("/batch")
+	@Transactional
+	public RsData<List<Long>> writeBatch(@PathVariable long postId, @RequestBody List<WriteReqBody> reqBody) {
+		Member actor = rq.getAuthenticatedActor();
+
+		if (reqBody.isEmpty() || reqBody.size() > MAX_BATCH_SIZE) {
+			throw new ServiceException("400-1", "한 번에 1개부터 %d개까지 작성할 수 있습니다.".formatted(MAX_BATCH_SIZE));
+		}
+
+		if (!postService.exists(postId)) {
+			throw new ServiceException("404-1", "존재하지 않는 게시글입니다.");
+		}
+
+		List<Long> ids = commentService.writeAll(
+			postId,
+			actor,
+			reqBody.stream().map(WriteReqBody::content).toList()
+		);
+
+		return new RsData<>(
+			"201-1",
+			"%d개의 댓글 작성이 완료되었습니다.".formatted(ids.size()),
+			ids
+		);
+	}
+
+
 	record ModifyReqBody(String content) {}
 
 	@PutMapping("{id}")
@@ -106,14 +187,12 @@ public class ApiV1CommentController {
 
 		Member actor = rq.getAuthenticatedActor();
 
-		Post post = postService.getItem(postId).orElseThrow(
-			() -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+		Comment comment = commentService.getItem(postId, id).orElseThrow(
+			() -> notFound(postId)
 		);
 
-		Comment comment = post.getCommentById(id);
-
 		comment.canModify(actor);
-		comment.modify(reqBody.content());
+		commentService.modify(comment, reqBody.content());
 
 		return new RsData<>(
 			"200-1",
@@ -127,14 +206,12 @@ public class ApiV1CommentController {
 	public RsData<Void> delete(@PathVariable long postId, @PathVariable long id) {
 
 		Member actor = rq.getAuthenticatedActor();
-		Post post = postService.getItem(postId).orElseThrow(
-			() -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+		Comment comment = commentService.getItem(postId, id).orElseThrow(
+			() -> notFound(postId)
 		);
 
-		Comment comment = post.getCommentById(id);
-
 		comment.canDelete(actor);
-		post.deleteComment(comment);
+		commentService.delete(comment);
 
 		return new RsData<>(
 			"200-1",
@@ -145,14 +222,19 @@ public class ApiV1CommentController {
 
 	public Comment _write(long postId, Member actor, String content) {
 
-		Post post = postService.getItem(postId).orElseThrow(
-			() -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-		);
-
-		Comment comment = post.addComment(actor, content);
+		if (!postService.exists(postId)) {
+			throw new ServiceException("404-1", "존재하지 않는 게시글입니다.");
+		}
 
-		return comment;
+		return commentService.write(postId, actor, content);
 	}
 
+	// 댓글이 없을 때만 글의 존재 여부를 따로 확인해서 어느 쪽이 없는지 구분한다.
+	private ServiceException notFound(long postId) {
+		if (!postService.exists(postId)) {
+			return new ServiceException("404-1", "존재하지 않는 게시글입니다.");
+		}
 
+		return new ServiceException("404-2", "존재하지 않는 댓글입니다.");
+	}
 }
@@ -1,7 +1,6 @@
 package com.resttdd.domain.post.comment.dto;
 
 import com.resttdd.domain.post.comment.entity.Comment;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -27,4 +26,16 @@ public class CommentDto {
         this.modifiedTime = comment.getModifiedDate();
     }
 
+    // 목록 조회용 JPQL 프로젝션 (select new ...CommentDto(...)) 생성자
+    public CommentDto(Long id, String content, Long postId, Long authorId, String authorName,
+                      LocalDateTime createdTime, LocalDateTime modifiedTime) {
+        this.id = id;
+        this.content = content;
+        this.postId = postId;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.createdTime = createdTime;
+        this.modifiedTime = modifiedTime;
+    }
+
 }
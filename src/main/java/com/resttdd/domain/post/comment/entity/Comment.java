@@ -6,11 +6,17 @@ import com.resttdd.global.entity.BaseTime;
 import com.resttdd.global.exception.ServiceException;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        // 글의 댓글 목록 / 커서 / 최신 댓글 조회 (where post_id = ? [and id > ?] order by post_id, id)
+        @Index(name = "idx_comment_post_id", columnList = "post_id, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -0,0 +1,76 @@
+package com.resttdd.domain.post.comment.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.resttdd.domain.post.comment.dto.CommentDto;
+import com.resttdd.domain.post.comment.entity.Comment;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+	// 댓글 목록은 작성자를 조인해서 CommentDto 로 바로 프로젝션한다. (Post.comments 컬렉션을 로딩하지 않는다)
+	// Slice 로 받으면 pageSize + 1 개를 읽어 다음 페이지가 있는지만 판단한다. (COUNT 쿼리 없음)
+	// (post_id, id) 인덱스 순서대로 읽도록 정렬에 post_id 를 앞에 붙인다. (post_id 는 등호 조건이라 결과는 id 순)
+	@Query("""
+		select new com.resttdd.domain.post.comment.dto.CommentDto(
+			c.id, c.content, c.post.id, a.id, a.nickname, c.createdDate, c.modifiedDate
+		)
+		from Comment c
+		join c.author a
+		where c.post.id = :postId
+		order by c.post.id, c.id
+		""")
+	Slice<CommentDto> findDtoByPostId(@Param("postId") long postId, Pageable pageable);
+
+	@Query("""
+		select new com.resttdd.domain.post.comment.dto.CommentDto(
+			c.id, c.content, c.post.id, a.id, a.nickname, c.createdDate, c.modifiedDate
+		)
+		from Comment c
+		join c.author a
+		where c.post.id = :postId
+		and c.id > :after
+		order by c.post.id, c.id
+		""")
+	Slice<CommentDto> findDtoByPostIdAndIdGreaterThan(@Param("postId") long postId, @Param("after") long after,
+		Pageable pageable);
+
+	// 단건 조회/수정/삭제는 (post_id, id) 로 한 번에 찾는다. 권한 확인에 필요한 작성자도 함께 가져온다.
+	@Query("""
+		select c
+		from Comment c
+		join fetch c.author
+		where c.post.id = :postId
+		and c.id = :id
+		""")
+	Optional<Comment> findWithAuthorByPostIdAndId(@Param("postId") long postId, @Param("id") long id);
+
+	@Query("""
+		select new com.resttdd.domain.post.comment.dto.CommentDto(
+			c.id, c.content, c.post.id, a.id, a.nickname, c.createdDate, c.modifiedDate
+		)
+		from Comment c
+		join c.author a
+		where c.post.id = :postId
+		and c.id = :id
+		""")
+	Optional<CommentDto> findDtoByPostIdAndId(@Param("postId") long postId, @Param("id") long id);
+
+	// 글의 최신 댓글 스냅샷을 다시 계산할 때 쓴다. (post_id, id) 역순으로 한 건만 읽는다.
+	@Query("""
+		select new com.resttdd.domain.post.comment.dto.CommentDto(
+			c.id, c.content, c.post.id, a.id, a.nickname, c.createdDate, c.modifiedDate
+		)
+		from Comment c
+		join c.author a
+		where c.post.id = :postId
+		order by c.post.id desc, c.id desc
+		""")
+	List<CommentDto> findLatestDtoByPostId(@Param("postId") long postId, Pageable pageable);
+}
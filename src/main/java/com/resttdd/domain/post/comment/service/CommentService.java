@@ -0,0 +1,118 @@
+package com.resttdd.domain.post.comment.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import com.resttdd.domain.member.member.entity.Member;
+import com.resttdd.domain.post.comment.dto.CommentDto;
+import com.resttdd.domain.post.comment.entity.Comment;
+import com.resttdd.domain.post.comment.repository.CommentRepository;
+import com.resttdd.domain.post.post.entity.Post;
+import com.resttdd.domain.post.post.repository.PostRepository;
+import com.resttdd.domain.post.post.service.PostTrendingRanking;
+import com.resttdd.global.transaction.AfterCommit;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+	private final CommentRepository commentRepository;
+	private final PostRepository postRepository;
+	private final PostTrendingRanking postTrendingRanking;
+
+	public Slice<CommentDto> getItems(long postId, int page, int pageSize) {
+		return commentRepository.findDtoByPostId(postId, PageRequest.of(page - 1, pageSize));
+	}
+
+	public Slice<CommentDto> getItemsAfter(long postId, long after, int pageSize) {
+		return commentRepository.findDtoByPostIdAndIdGreaterThan(postId, after, PageRequest.ofSize(pageSize));
+	}
+
+	public Optional<CommentDto> getItemDto(long postId, long id) {
+		return commentRepository.findDtoByPostIdAndId(postId, id);
+	}
+
+	public Optional<Comment> getItem(long postId, long id) {
+		return commentRepository.findWithAuthorByPostIdAndId(postId, id);
+	}
+
+	// 글 엔티티와 Post.comments 컬렉션을 로딩하지 않고 댓글만 INSERT 한 뒤, 글의 댓글 수/최신 댓글을 갱신한다.
+	public Comment write(long postId, Member author, String content) {
+		Comment comment = commentRepository.save(
+			Comment
+				.builder()
+				.post(postRepository.getReferenceById(postId))
+				.author(author)
+				.content(content)
+				.build()
+		);
+
+		postRepository.updateCommentSummary(postId, 1, content, author.getNickname(), comment.getCreatedDate());
+		AfterCommit.run(() -> postTrendingRanking.recordComments(postId, 1));
+
+		return comment;
+	}
+
+	// 트랜잭션 안에서 조회한 댓글이므로 변경 감지로 해당 댓글 한 건만 UPDATE 된다.
+	// 최신 댓글이 수정됐을 수 있으므로 스냅샷도 다시 맞춘다.
+	public void modify(Comment comment, String content) {
+		comment.modify(content);
+
+		refreshCommentSummary(comment.getPost().getId(), 0);
+	}
+
+	// 여러 댓글을 작성하고, 생성된 id 를 작성 순서대로 돌려준다. 댓글 수/최신 댓글은 UPDATE 한 번으로 갱신한다.
+	// id 는 시퀀스에서 미리 받아오므로 INSERT 는 커밋 시점에 hibernate.jdbc.batch_size 단위로 묶여서 나간다.
+	// 글은 프록시 참조만 쓰므로 글 엔티티나 Post.comments 컬렉션을 로딩하지 않는다.
+	public List<Long> writeAll(long postId, Member author, List<String> contents) {
+		Post post = postRepository.getReferenceById(postId);
+
+		List<Comment> comments = contents.stream()
+			.map(content -> Comment
+				.builder()
+				.post(post)
+				.author(author)
+				.content(content)
+				.build())
+			.toList();
+
+		List<Long> ids = commentRepository.saveAll(comments)
+			.stream()
+			.map(Comment::getId)
+			.toList();
+
+		Comment latest = comments.getLast();
+		postRepository.updateCommentSummary(postId, comments.size(), latest.getContent(), author.getNickname(),
+			latest.getCreatedDate());
+		AfterCommit.run(() -> postTrendingRanking.recordComments(postId, ids.size()));
+
+		return ids;
+	}
+
+	// Post.comments 컬렉션을 거치지 않고 해당 댓글 한 건만 DELETE 한다.
+	public void delete(Comment comment) {
+		commentRepository.delete(comment);
+
+		refreshCommentSummary(comment.getPost().getId(), -1);
+	}
+
+	// 남은 댓글 중 가장 최근 것으로 스냅샷을 다시 계산한다. (조회 전에 삭제/수정이 자동 flush 된다)
+	private void refreshCommentSummary(long postId, long delta) {
+		List<CommentDto> latest = commentRepository.findLatestDtoByPostId(postId, PageRequest.ofSize(1));
+
+		if (latest.isEmpty()) {
+			postRepository.updateCommentSummary(postId, delta, null, null, null);
+			return;
+		}
+
+		CommentDto comment = latest.getFirst();
+		postRepository.updateCommentSummary(postId, delta, comment.getContent(), comment.getAuthorName(),
+			comment.getCreatedTime());
+	}
+}
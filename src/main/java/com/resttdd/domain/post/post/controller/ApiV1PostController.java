@@ -1,6 +1,13 @@
 package com.resttdd.domain.post.post.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,17 +17,32 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import com.resttdd.domain.member.member.entity.Member;
+import com.resttdd.domain.post.post.dto.CursorPageDto;
 import com.resttdd.domain.post.post.dto.PageDto;
+import com.resttdd.domain.post.post.dto.PostDto;
+import com.resttdd.domain.post.post.dto.PostVersionDto;
 import com.resttdd.domain.post.post.dto.PostWithContnetDto;
 import com.resttdd.domain.post.post.entity.Post;
 import com.resttdd.domain.post.post.service.PostService;
+import com.resttdd.domain.post.post.service.PostTrendingRanking;
+import com.resttdd.domain.post.post.service.PostViewCounter;
 import com.resttdd.global.Rq;
+import com.resttdd.global.app.AppConfig;
 import com.resttdd.global.dto.RsData;
 import com.resttdd.global.exception.ServiceException;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 
@@ -29,37 +51,89 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ApiV1PostController {
 	private final PostService postService;
+	private final PostViewCounter postViewCounter;
+	private final PostTrendingRanking postTrendingRanking;
 	private final Rq rq;
+	private final ObjectMapper objectMapper;
+
+	private static final int IMPORT_BATCH_SIZE = 1000;
+	private static final int EXPORT_CHUNK_SIZE = 1000;
 
 	@GetMapping
 	public RsData<PageDto> getItems(
 		@RequestParam(defaultValue = "1") int page,
-		@RequestParam(defaultValue = "3") int pageSize,
+		@RequestParam(defaultValue = "3") @Min(1) @Max(AppConfig.MAX_PAGE_SIZE) int pageSize,
 		@RequestParam(defaultValue = "title") String keywordType,
 		@RequestParam(defaultValue = "") String keyword) {
-		Page<Post> postPage = postService.getListedItems(page, pageSize, keywordType, keyword);
+		Page<PostDto> postPage = postService.getListedItems(page, pageSize, keywordType, keyword);
 
 		return new RsData<>(
 			"200-1",
 			"글 목록 조회가 완료되었습니다.",
-			new PageDto(postPage)
+			new PageDto(postPage, keyword.isBlank())
+		);
+	}
+
+	// after 파라미터가 있으면 커서 기반으로 조회한다. (전체 개수를 세지 않는다)
+	@GetMapping(params = "after")
+	public RsData<CursorPageDto> getItemsAfter(
+		@RequestParam long after,
+		@RequestParam(defaultValue = "3") @Min(1) @Max(AppConfig.MAX_PAGE_SIZE) int pageSize,
+		@RequestParam(defaultValue = "title") String keywordType,
+		@RequestParam(defaultValue = "") String keyword) {
+		List<PostDto> posts = postService.getListedItemsAfter(after, pageSize, keywordType, keyword);
+
+		return new RsData<>(
+			"200-1",
+			"글 목록 조회가 완료되었습니다.",
+			new CursorPageDto(posts, pageSize)
 		);
 	}
 
 	@GetMapping("{id}")
-	public RsData<PostWithContnetDto> getItem(@PathVariable long id) {
-		Post post = postService.getItem(id)
+	public RsData<PostWithContnetDto> getItem(@PathVariable long id, WebRequest webRequest) {
+		PostVersionDto version = postService.getItemVersion(id)
+			.orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 글입니다."));
+
+		// 공개 글은 본문과 작성자를 읽기 전에 수정 시각만 보고 304 를 판단한다. (ETag, Last-Modified 헤더도 여기서 붙는다)
+		// 비공개 글은 권한 확인이 먼저라서 조건부 요청 대상에서 뺀다.
+		// 조회수(viewCount)는 ETag 에 넣지 않는다. 조회마다 바뀌는 값이라 넣으면 304 가 나올 일이 없기 때문이다.
+		// 그래서 304 를 받은 클라이언트가 가진 viewCount 는 처음 200 을 받은 시점의 값에 머문다. (글이 수정되면 새로 받는다)
+		if (version.isPublished() && webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+			countView(id);
+			return null;
+		}
+
+		PostWithContnetDto post = postViewCounter.readWithPending(id, () -> postService.getItemWithContent(id))
 			.orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 글입니다."));
 
+		// 비공개 글은 이미 읽은 DTO 의 작성자 id 로 권한을 확인한다. (엔티티를 다시 읽지 않는다)
 		if (!post.isPublished()) {
-			Member actor = rq.getAuthenticatedActor();
-			post.canRead(actor);
+			post.canRead(rq.getAuthenticatedActor());
 		}
 
+		countView(id);
+
 		return new RsData<>(
 			"200-1",
 			"%d번 글을 조회하였습니다.".formatted(post.getId()),
-			new PostWithContnetDto(post)
+			post.withPendingViews(1) // 위에서 더한 미반영 조회수에는 이번 조회가 아직 없다.
+		);
+	}
+
+	// 조회수와 인기 글 점수는 여기서 메모리에만 올린다. DB 반영과 순위 계산은 각각 주기적으로 모아서 한다.
+	private void countView(long id) {
+		postViewCounter.increment(id);
+		postTrendingRanking.recordView(id);
+	}
+
+	// 조회수/댓글로 매긴 인기 글 상위 목록. 주기적으로 만들어 둔 목록을 돌려주므로 요청 시 DB 를 읽지 않는다.
+	@GetMapping("/trending")
+	public RsData<List<PostDto>> getTrendingItems() {
+		return new RsData<>(
+			"200-1",
+			"인기 글 목록 조회가 완료되었습니다.",
+			postTrendingRanking.getTop()
 		);
 	}
 
@@ -114,12 +188,12 @@ public class ApiV1PostController {
 	@GetMapping("/mine")
 	public RsData<PageDto> getMines(
 		@RequestParam(defaultValue = "1") int page,
-		@RequestParam(defaultValue = "3") int pageSize,
+		@RequestParam(defaultValue = "3") @Min(1) @Max(AppConfig.MAX_PAGE_SIZE) int pageSize,
 		@RequestParam(defaultValue = "title") String keywordType,
 		@RequestParam(defaultValue = "") String keyword
 	) {
 		Member actor = rq.getAuthenticatedActor();
-		Page<Post> postPage = postService.getMines(page, pageSize, actor, keywordType, keyword);
+		Page<PostDto> postPage = postService.getMines(page, pageSize, actor, keywordType, keyword);
 
 		return new RsData<>(
 			"200-1",
@@ -127,4 +201,140 @@ public class ApiV1PostController {
 			new PageDto(postPage)
 		);
 	}
+
+	@GetMapping(value = "/mine", params = "after")
+	public RsData<CursorPageDto> getMinesAfter(
+		@RequestParam long after,
+		@RequestParam(defaultValue = "3") @Min(1) @Max(AppConfig.MAX_PAGE_SIZE) int pageSize,
+		@RequestParam(defaultValue = "title") String keywordType,
+		@RequestParam(defaultValue = "") String keyword
+	) {
+		Member actor = rq.getAuthenticatedActor();
+		List<PostDto> posts = postService.getMinesAfter(after, pageSize, actor, keywordType, keyword);
+
+		return new RsData<>(
+			"200-1",
+			"글 목록 조회가 완료되었습니다.",
+			new CursorPageDto(posts, pageSize)
+		);
+	}
+
+	@PostMapping("/search-index/rebuild")
+	public RsData<Void> rebuildSearchIndex() {
+		Member actor = rq.getAuthenticatedActor();
+
+		if (!actor.isAdmin()) {
+			throw new ServiceException("403-1", "관리자만 검색 색인을 재구축할 수 있습니다.");
+		}
+
+		int indexed = postService.rebuildSearchIndex();
+
+		return new RsData<>(
+			"200-1",
+			"검색 색인 재구축이 완료되었습니다. (%d건)".formatted(indexed)
+		);
+	}
+
+	record ImportLine(String title, String content, boolean published, boolean listed) {
+	}
+
+	// NDJSON(한 줄에 글 하나)을 읽는 대로 파싱해서 IMPORT_BATCH_SIZE 개씩 저장한다.
+	// 요청 본문 전체를 메모리에 올리지 않고, 배치마다 트랜잭션을 커밋해서 영속성 컨텍스트도 비워진다.
+	// 중간에 잘못된 줄을 만나면 거기서 멈추고, 앞서 커밋된 배치는 그대로 남는다.
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public RsData<Void> importItems(InputStream body) throws IOException {
+		Member actor = rq.getAuthenticatedActor();
+
+		if (!actor.isAdmin()) {
+			throw new ServiceException("403-1", "관리자만 글을 가져올 수 있습니다.");
+		}
+
+		int imported = 0;
+		int lineNo = 0;
+		List<Post> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+		try (MappingIterator<ImportLine> lines = objectMapper.readerFor(ImportLine.class).readValues(body)) {
+			while (true) {
+				ImportLine line;
+				try {
+					if (!lines.hasNextValue()) break;
+					line = lines.nextValue();
+				} catch (JsonProcessingException e) {
+					throw invalidLine(lineNo + 1, imported);
+				}
+				lineNo++;
+
+				if (line.title() == null || line.title().isBlank() || line.content() == null || line.content().isBlank()) {
+					throw invalidLine(lineNo, imported);
+				}
+
+				batch.add(
+					Post
+						.builder()
+						.author(actor)
+						.title(line.title())
+						.content(line.content())
+						.published(line.published())
+						.listed(line.listed())
+						.build()
+				);
+
+				if (batch.size() == IMPORT_BATCH_SIZE) {
+					imported += postService.writeAll(batch).size();
+					batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+				}
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			imported += postService.writeAll(batch).size();
+		}
+
+		return new RsData<>(
+			"201-1",
+			"%d건의 글 가져오기가 완료되었습니다.".formatted(imported)
+		);
+	}
+
+	// 모든 글을 id 순으로 EXPORT_CHUNK_SIZE 개씩 읽어서 NDJSON 으로 바로 흘려보낸다.
+	// findAll() 처럼 전체 목록을 만들지 않고, 청크마다 짧게 조회하므로 느린 클라이언트가 커넥션을 붙잡지 않는다.
+	// 각 줄은 그대로 /import 에 다시 넣을 수 있다.
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportItems() {
+		Member actor = rq.getAuthenticatedActor();
+
+		if (!actor.isAdmin()) {
+			throw new ServiceException("403-1", "관리자만 글을 내보낼 수 있습니다.");
+		}
+
+		ObjectWriter writer = objectMapper.writerFor(PostWithContnetDto.class);
+
+		StreamingResponseBody stream = out -> {
+			long after = 0;
+			while (true) {
+				List<PostWithContnetDto> posts = postService.getItemsWithContentAfter(after, EXPORT_CHUNK_SIZE);
+				if (posts.isEmpty()) break;
+
+				for (PostWithContnetDto post : posts) {
+					out.write(writer.writeValueAsBytes(post));
+					out.write('\n');
+				}
+				out.flush();
+
+				after = posts.getLast().getId();
+			}
+		};
+
+		return ResponseEntity
+			.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(stream);
+	}
+
+	private ServiceException invalidLine(int lineNo, int imported) {
+		return new ServiceException(
+			"400-1",
+			"%d번째 줄이 올바르지 않습니다. (앞선 %d건은 저장되었습니다.)".formatted(lineNo, imported)
+		);
+	}
 }
@@ -0,0 +1,22 @@
+package com.resttdd.domain.post.post.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class CursorPageDto {
+	private List<PostDto> items;
+	private int pageSize;
+	private Long nextCursor; // 다음 페이지 요청 시 after 로 전달할 값 (마지막 페이지면 null)
+
+	// posts 는 pageSize + 1 개까지 조회된 결과. 초과분이 있으면 다음 페이지가 있다는 뜻이다.
+	public CursorPageDto(List<PostDto> posts, int pageSize) {
+		boolean hasNext = posts.size() > pageSize;
+		List<PostDto> content = hasNext ? posts.subList(0, pageSize) : posts;
+
+		this.items = content;
+		this.pageSize = pageSize;
+		this.nextCursor = hasNext ? content.getLast().getId() : null;
+	}
+}
@@ -4,8 +4,6 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 
-import com.resttdd.domain.post.post.entity.Post;
-
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -17,12 +15,18 @@ public class PageDto {
 	private int totalPages;
 	private long totalItems;
 	private int pageSize;
+	private boolean totalItemsCached; // true 면 totalItems/totalPages 가 COUNT 쿼리가 아닌 캐시된 개수 기준이다.
+
+	public PageDto(Page<PostDto> postPage) {
+		this(postPage, false);
+	}
 
-	public PageDto(Page<Post> postPage) {
-		this.items = postPage.getContent().stream().map(PostDto::new).toList();
+	public PageDto(Page<PostDto> postPage, boolean totalItemsCached) {
+		this.items = postPage.getContent();
 		this.currentPageNo = postPage.getNumber() + 1;
 		this.totalPages = postPage.getTotalPages();
 		this.totalItems = postPage.getTotalElements();
 		this.pageSize = postPage.getSize();
+		this.totalItemsCached = totalItemsCached;
 	}
 }
@@ -2,6 +2,7 @@ package com.resttdd.domain.post.post.dto;
 
 import java.time.LocalDateTime;
 
+import com.resttdd.domain.post.post.entity.CommentSummary;
 import com.resttdd.domain.post.post.entity.Post;
 
 import lombok.Getter;
@@ -17,6 +18,10 @@ public class PostDto {
     private String authorName;
     private boolean published;
     private boolean listed;
+    private long commentCount;
+    private String latestCommentContent;
+    private String latestCommentAuthorName;
+    private LocalDateTime latestCommentCreatedDate;
 
     public PostDto(Post post) {
         this.id = post.getId();
@@ -27,5 +32,32 @@ public class PostDto {
         this.authorName = post.getAuthor().getNickname();
         this.published = post.isPublished();
         this.listed = post.isListed();
+        this.commentCount = post.getCommentCount();
+
+        CommentSummary latestComment = post.getLatestCommentSummary();
+        if (latestComment != null) {
+            this.latestCommentContent = latestComment.getContent();
+            this.latestCommentAuthorName = latestComment.getAuthorName();
+            this.latestCommentCreatedDate = latestComment.getCreatedDate();
+        }
+    }
+
+    // 목록 조회용 JPQL 프로젝션 (select new ...PostDto(...)) 생성자. 엔티티와 content, 댓글 테이블을 읽지 않는다.
+    public PostDto(Long id, LocalDateTime createdDate, LocalDateTime modifiedDate, String title,
+                   Long authorId, String authorName, Boolean published, Boolean listed,
+                   Long commentCount, String latestCommentContent, String latestCommentAuthorName,
+                   LocalDateTime latestCommentCreatedDate) {
+        this.id = id;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+        this.title = title;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.published = published;
+        this.listed = listed;
+        this.commentCount = commentCount;
+        this.latestCommentContent = latestCommentContent;
+        this.latestCommentAuthorName = latestCommentAuthorName;
+        this.latestCommentCreatedDate = latestCommentCreatedDate;
     }
 }
@@ -0,0 +1,35 @@
+package com.resttdd.domain.post.post.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import lombok.Getter;
+
+// 글 본문을 읽지 않고 조건부 요청(304)을 판단하기 위한 최소 정보
+@Getter
+public class PostVersionDto {
+
+    private long id;
+    private LocalDateTime modifiedDate;
+    private boolean published;
+
+    public PostVersionDto(Long id, LocalDateTime modifiedDate, Boolean published) {
+        this.id = id;
+        this.modifiedDate = modifiedDate;
+        this.published = published;
+    }
+
+    public PostVersionDto(PostWithContnetDto post) {
+        this(post.getId(), post.getModifiedDate(), post.isPublished());
+    }
+
+    // 조회수는 조회마다 바뀌므로 넣지 않는다. (304 를 받은 클라이언트의 viewCount 는 마지막 200 응답 때 값이다)
+    public String getETag() {
+        return "W/\"post-%d-%d\"".formatted(id, getLastModified());
+    }
+
+    public long getLastModified() {
+        return modifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -2,7 +2,9 @@ package com.resttdd.domain.post.post.dto;
 
 import java.time.LocalDateTime;
 
+import com.resttdd.domain.member.member.entity.Member;
 import com.resttdd.domain.post.post.entity.Post;
+import com.resttdd.global.exception.ServiceException;
 
 import lombok.Getter;
 
@@ -17,6 +19,7 @@ public class PostWithContnetDto {
 	private String authorName;
 	private boolean published;
 	private boolean listed;
+	private long viewCount;
 
 	public PostWithContnetDto(Post post) {
 		this.id = post.getId();
@@ -28,5 +31,37 @@ public class PostWithContnetDto {
 		this.authorName = post.getAuthor().getNickname();
 		this.published = post.isPublished();
 		this.listed = post.isListed();
+		this.viewCount = post.getViewCount();
+	}
+
+	// 내보내기(export)용 JPQL 프로젝션 생성자. 엔티티를 영속성 컨텍스트에 올리지 않는다.
+	public PostWithContnetDto(Long id, LocalDateTime createdDate, LocalDateTime modifiedDate, String title,
+		String content, Long authorId, String authorName, Boolean published, Boolean listed, Long viewCount) {
+		this.id = id;
+		this.createdDate = createdDate;
+		this.modifiedDate = modifiedDate;
+		this.title = title;
+		this.content = content;
+		this.authorId = authorId;
+		this.authorName = authorName;
+		this.published = published;
+		this.listed = listed;
+		this.viewCount = viewCount;
+	}
+
+	// Post.canRead 와 같은 규칙. 작성자 본인이나 관리자만 비공개 글을 읽을 수 있다.
+	public void canRead(Member actor) {
+		if (actor.getId() == authorId) return;
+		if (actor.isAdmin()) return;
+
+		throw new ServiceException("403-1", "비공개 설정된 글입니다.");
+	}
+
+	// 캐시에 든 인스턴스는 여러 요청이 공유하므로 바꾸지 않고, 아직 반영되지 않은 조회수를 더한 사본을 만든다.
+	public PostWithContnetDto withPendingViews(long pendingViews) {
+		if (pendingViews == 0) return this;
+
+		return new PostWithContnetDto(id, createdDate, modifiedDate, title, content, authorId, authorName, published,
+			listed, viewCount + pendingViews);
 	}
 }
@@ -0,0 +1,37 @@
+package com.resttdd.domain.post.post.entity;
+
+import java.time.LocalDateTime;
+
+import com.resttdd.domain.post.comment.entity.Comment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 글 목록에서 보여줄 최신 댓글 스냅샷. 목록 조회 시 댓글 테이블을 읽지 않도록 글에 같이 저장한다.
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentSummary {
+
+    @Column(name = "latest_comment_content")
+    private String content;
+
+    @Column(name = "latest_comment_author_name", length = 100)
+    private String authorName;
+
+    @Column(name = "latest_comment_created_date")
+    private LocalDateTime createdDate;
+
+    public static CommentSummary of(Comment comment) {
+        return new CommentSummary(
+                comment.getContent(),
+                comment.getAuthor().getNickname(),
+                comment.getCreatedDate() != null ? comment.getCreatedDate() : LocalDateTime.now()
+        );
+    }
+
+}
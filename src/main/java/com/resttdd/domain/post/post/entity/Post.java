@@ -3,16 +3,23 @@ package com.resttdd.domain.post.post.entity;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.resttdd.domain.member.member.entity.Member;
 import com.resttdd.domain.post.comment.entity.Comment;
 import com.resttdd.global.entity.BaseTime;
 import com.resttdd.global.exception.ServiceException;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +27,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+        // 공개 글 목록 / 커서 조회 (where listed = ? [and id > ?] order by listed, id)
+        @Index(name = "idx_post_listed_id", columnList = "listed, id"),
+        // 내 글 목록 / 커서 조회 (where author_id = ? [and id > ?] order by author_id, id)
+        @Index(name = "idx_post_author_id", columnList = "author_id, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -30,10 +43,27 @@ public class Post extends BaseTime {
     @ManyToOne(fetch = FetchType.LAZY)
     private Member author;
     private String title;
+    @Lob
     private String content;
     private boolean published;
     private boolean listed;
 
+    // 목록 화면용 비정규화 필드. 댓글 컬렉션을 로딩하지 않고 댓글 수와 최신 댓글을 보여줄 수 있다.
+    @ColumnDefault("0")
+    private long commentCount;
+
+    @Embedded
+    private CommentSummary latestCommentSummary;
+
+    // 댓글이 작성/수정/삭제될 때마다 1씩 올라간다. 댓글 목록 ETag 로 쓴다.
+    @ColumnDefault("0")
+    private long commentVersion;
+
+    // PostViewCounter 가 주기적으로 UPDATE 로만 올린다. 엔티티를 저장할 때 덮어쓰지 않도록 INSERT/UPDATE 대상에서 뺀다.
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private long viewCount;
+
     @OneToMany(mappedBy = "post", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
@@ -48,6 +78,9 @@ public class Post extends BaseTime {
                 .build();
 
         comments.add(comment);
+        commentCount++;
+        commentVersion++;
+        latestCommentSummary = CommentSummary.of(comment);
 
         return comment;
     }
@@ -63,7 +96,11 @@ public class Post extends BaseTime {
     }
 
     public void deleteComment(Comment comment) {
-        comments.remove(comment);
+        if (!comments.remove(comment)) return;
+
+        commentCount--;
+        commentVersion++;
+        latestCommentSummary = comments.isEmpty() ? null : CommentSummary.of(comments.getLast());
     }
 
     public void canModify(Member actor) {
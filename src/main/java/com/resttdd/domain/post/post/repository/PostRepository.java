@@ -1,23 +1,161 @@
 package com.resttdd.domain.post.post.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.resttdd.domain.member.member.entity.Member;
+import com.resttdd.domain.post.post.dto.PostDto;
+import com.resttdd.domain.post.post.dto.PostVersionDto;
+import com.resttdd.domain.post.post.dto.PostWithContnetDto;
 import com.resttdd.domain.post.post.entity.Post;
 
+import jakarta.persistence.QueryHint;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
 	Optional<Post> findTopByOrderByIdDesc();
 
-	Page<Post> findByListedAndTitleLike(boolean listed, String title, PageRequest pageRequest);
+	// 전체 글을 한 번에 List 로 만들지 않고 스트림으로 흘려 읽는다. (트랜잭션 안에서만 사용 가능)
+	// fetch size 만큼씩 드라이버가 가져오고, 읽기 전용이라 스냅샷(dirty checking 용 사본)도 만들지 않는다.
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("select p from Post p order by p.id")
+	Stream<Post> streamAllByOrderById();
+
+	// 조건부 요청(ETag / Last-Modified) 판단용. 내용(content)과 작성자를 읽지 않고 PK 로 한 행의 몇 컬럼만 읽는다.
+	@Query("""
+		select new com.resttdd.domain.post.post.dto.PostVersionDto(p.id, p.modifiedDate, p.published)
+		from Post p
+		where p.id = :id
+		""")
+	Optional<PostVersionDto> findVersionById(@Param("id") long id);
+
+	@Query("select p.commentVersion from Post p where p.id = :id")
+	Optional<Long> findCommentVersionById(@Param("id") long id);
+
+	// 단건 응답(PostWithContnetDto)은 작성자 닉네임이 필요하므로 함께 가져온다.
+	@Query("select p from Post p join fetch p.author where p.id = :id")
+	Optional<Post> findWithAuthorById(@Param("id") long id);
+
+	long countByListed(boolean listed);
+
+	// 목록 조회는 PostDto 로 바로 프로젝션한다.
+	// 작성자를 조인해서 한 번의 쿼리로 끝내고, Post 엔티티와 content 컬럼은 읽지 않는다.
+	// 키워드 검색은 PostSearchIndex 가 담당하고, 여기서는 검색어가 없을 때의 목록만 조회한다.
+	// 공개 목록의 전체 개수는 PostCountCache 가 들고 있으므로 COUNT 쿼리 없이 내용만 읽는다.
+	// 정렬에 조건 컬럼(listed, author_id)을 앞에 붙여서 (listed, id) / (author_id, id) 인덱스 순서와 맞춘다.
+	// 조건이 등호라 결과 순서는 id 순과 같고, 인덱스를 읽는 순서 그대로라 별도 정렬이 없다.
+	@Query("""
+		select new com.resttdd.domain.post.post.dto.PostDto(
+			p.id, p.createdDate, p.modifiedDate, p.title, a.id, a.nickname, p.published, p.listed,
+			p.commentCount, p.latestCommentSummary.content, p.latestCommentSummary.authorName,
+			p.latestCommentSummary.createdDate
+		)
+		from Post p
+		join p.author a
+		where p.listed = :listed
+		order by p.listed, p.id
+		""")
+	List<PostDto> findDtoByListed(@Param("listed") boolean listed, Pageable pageable);
+
+	@Query(
+		value = """
+			select new com.resttdd.domain.post.post.dto.PostDto(
+				p.id, p.createdDate, p.modifiedDate, p.title, a.id, a.nickname, p.published, p.listed,
+				p.commentCount, p.latestCommentSummary.content, p.latestCommentSummary.authorName,
+				p.latestCommentSummary.createdDate
+			)
+			from Post p
+			join p.author a
+			where p.author = :author
+			order by p.author.id, p.id
+			""",
+		countQuery = "select count(p) from Post p where p.author = :author"
+	)
+	Page<PostDto> findDtoByAuthor(@Param("author") Member author, Pageable pageable);
+
+	// 커서(id) 기반 조회: OFFSET, COUNT 없이 id 인덱스를 타고 바로 다음 위치부터 읽는다.
+	@Query("""
+		select new com.resttdd.domain.post.post.dto.PostDto(
+			p.id, p.createdDate, p.modifiedDate, p.title, a.id, a.nickname, p.published, p.listed,
+			p.commentCount, p.latestCommentSummary.content, p.latestCommentSummary.authorName,
+			p.latestCommentSummary.createdDate
+		)
+		from Post p
+		join p.author a
+		where p.listed = :listed
+		and p.id > :after
+		order by p.listed, p.id
+		""")
+	List<PostDto> findDtoByListedAndIdGreaterThan(@Param("listed") boolean listed, @Param("after") long after,
+		Pageable pageable);
+
+	@Query("""
+		select new com.resttdd.domain.post.post.dto.PostDto(
+			p.id, p.createdDate, p.modifiedDate, p.title, a.id, a.nickname, p.published, p.listed,
+			p.commentCount, p.latestCommentSummary.content, p.latestCommentSummary.authorName,
+			p.latestCommentSummary.createdDate
+		)
+		from Post p
+		join p.author a
+		where p.author = :author
+		and p.id > :after
+		order by p.author.id, p.id
+		""")
+	List<PostDto> findDtoByAuthorAndIdGreaterThan(@Param("author") Member author, @Param("after") long after,
+		Pageable pageable);
 
-	Page<Post> findByListedAndContentLike(boolean listed, String content, PageRequest pageRequest);
+	@Query("""
+		select new com.resttdd.domain.post.post.dto.PostDto(
+			p.id, p.createdDate, p.modifiedDate, p.title, a.id, a.nickname, p.published, p.listed,
+			p.commentCount, p.latestCommentSummary.content, p.latestCommentSummary.authorName,
+			p.latestCommentSummary.createdDate
+		)
+		from Post p
+		join p.author a
+		where p.id in :ids
+		""")
+	List<PostDto> findDtoByIdIn(@Param("ids") Collection<Long> ids);
 
-	Page<Post> findByAuthorAndContentLike(Member author, String likeKeyword, PageRequest pageRequest);
+	// 내보내기용 커서(id) 조회. 청크마다 짧은 트랜잭션으로 읽으므로 커넥션을 오래 잡고 있지 않는다.
+	@Query("""
+		select new com.resttdd.domain.post.post.dto.PostWithContnetDto(
+			p.id, p.createdDate, p.modifiedDate, p.title, p.content, a.id, a.nickname, p.published, p.listed,
+			p.viewCount
+		)
+		from Post p
+		join p.author a
+		where p.id > :after
+		order by p.id
+		""")
+	List<PostWithContnetDto> findWithContentDtoByIdGreaterThan(@Param("after") long after, Pageable pageable);
 
-	Page<Post> findByAuthorAndTitleLike(Member author, String likeKeyword, PageRequest pageRequest);
+	// 댓글 작성/수정/삭제 시 글 엔티티를 읽지 않고 UPDATE 한 번으로 댓글 수, 댓글 버전, 최신 댓글 스냅샷을 갱신한다.
+	// 증감을 DB 에서 하므로 같은 글에 댓글이 동시에 달려도 개수가 유실되지 않는다.
+	@Modifying
+	@Query("""
+		update Post p
+		set p.commentCount = p.commentCount + :delta,
+			p.commentVersion = p.commentVersion + 1,
+			p.latestCommentSummary.content = :content,
+			p.latestCommentSummary.authorName = :authorName,
+			p.latestCommentSummary.createdDate = :createdDate
+		where p.id = :id
+		""")
+	int updateCommentSummary(@Param("id") long id, @Param("delta") long delta, @Param("content") String content,
+		@Param("authorName") String authorName, @Param("createdDate") LocalDateTime createdDate);
 }
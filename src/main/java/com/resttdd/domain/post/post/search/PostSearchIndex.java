@@ -0,0 +1,240 @@
+package com.resttdd.domain.post.post.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.resttdd.domain.post.post.entity.Post;
+
+// 글 제목/내용에 대한 메모리 역색인.
+// 한글은 띄어쓰기 단위로 자르면 부분 검색이 안 되므로, 1글자(unigram)와 2글자(bigram) 단위로 색인한 뒤
+// 후보 글의 원문에 검색어가 실제로 포함되어 있는지 한 번 더 확인한다. (기존 '%keyword%' 검색과 같은 결과, 대소문자 무시)
+//
+// 메모리 비용: 원문 확인을 위해 글마다 소문자로 바꾼 제목과 내용(Doc)을 힙에 들고, 글자마다 unigram/bigram posting 이 2개씩 붙는다.
+// 내용은 길이 제한이 없으므로(@Lob) 앞 content-max-length 글자까지만 색인한다. 그 뒤에만 나오는 검색어로는 찾지 못한다.
+// 그래서 글 하나가 차지하는 색인 크기는 (제목 + content-max-length) 글자에 비례하는 상한이 있고, 전체는 글 수에 비례한다.
+@Component
+public class PostSearchIndex {
+
+	@Value("${custom.post.search.content-max-length}")
+	private int contentMaxLength;
+
+	private volatile Segment segment = new Segment();
+
+	// put / remove / 세그먼트 교체는 이 락으로 짧게만 잡는다. 재구축 중의 DB 스캔은 이 락 밖에서 한다.
+	private final Object lock = new Object();
+	// 재구축이 진행 중이면 그 사이에 들어온 변경을 모아 두었다가 새 세그먼트에 다시 적용한다. (재구축 중이 아니면 null)
+	private List<Consumer<Segment>> changesDuringRebuild;
+
+	public enum Field {
+		TITLE, CONTENT;
+
+		public static Field of(String keywordType) {
+			return keywordType.equals("content") ? CONTENT : TITLE;
+		}
+	}
+
+	public record Doc(long id, long authorId, boolean listed, String title, String content) {
+
+		public static Doc of(Post post) {
+			return new Doc(
+				post.getId(),
+				post.getAuthor().getId(),
+				post.isListed(),
+				normalize(post.getTitle()),
+				normalize(post.getContent())
+			);
+		}
+
+		String text(Field field) {
+			return field == Field.TITLE ? title : content;
+		}
+
+		// substring 은 원문과 배열을 공유하지 않으므로, 잘라낸 뒤에는 원문 전체가 힙에 남지 않는다.
+		Doc withContentUpTo(int maxLength) {
+			if (content.length() <= maxLength) return this;
+
+			return new Doc(id, authorId, listed, title, content.substring(0, maxLength));
+		}
+	}
+
+	private record Hit(long id, int score) {
+	}
+
+	public void put(Doc doc) {
+		Doc bounded = doc.withContentUpTo(contentMaxLength);
+		apply(target -> target.put(bounded));
+	}
+
+	public void remove(long id) {
+		apply(target -> target.remove(id));
+	}
+
+	// 변경은 지금 세그먼트에 바로 반영하고, 재구축 중이면 새 세그먼트에도 반영되도록 기록해 둔다.
+	// 같은 글의 put / remove 는 다시 적용해도 결과가 같으므로, 스캔이 이미 읽은 글이어도 그대로 재적용한다.
+	private void apply(Consumer<Segment> change) {
+		synchronized (lock) {
+			change.accept(segment);
+			if (changesDuringRebuild != null) {
+				changesDuringRebuild.add(change);
+			}
+		}
+	}
+
+	// 검색어가 많이 등장한 글부터, 같으면 id 순으로 정렬된 글 id 목록
+	public List<Long> search(Field field, String keyword, Predicate<Doc> filter) {
+		String query = normalize(keyword);
+		if (query.isEmpty()) {
+			return List.of();
+		}
+
+		Segment current = segment;
+		Map<String, Set<Long>> postings = current.postings.get(field);
+
+		List<Set<Long>> candidates = new ArrayList<>();
+		for (String token : queryTokens(query)) {
+			Set<Long> ids = postings.get(token);
+			if (ids == null) {
+				return List.of();
+			}
+			candidates.add(ids);
+		}
+		candidates.sort(Comparator.comparingInt(Set::size));
+
+		List<Hit> hits = new ArrayList<>();
+		for (Long id : candidates.getFirst()) {
+			if (!containsAll(candidates, id)) continue;
+
+			Doc doc = current.docs.get(id);
+			if (doc == null || !filter.test(doc)) continue;
+
+			int score = countOccurrences(doc.text(field), query);
+			if (score > 0) {
+				hits.add(new Hit(id, score));
+			}
+		}
+
+		hits.sort(Comparator.comparingInt(Hit::score).reversed().thenComparingLong(Hit::id));
+
+		return hits.stream().map(Hit::id).toList();
+	}
+
+	// source 가 넘겨주는 글들로 새 세그먼트를 만든 뒤 한 번에 교체한다. 재구축 중에도 검색은 이전 세그먼트로 계속된다.
+	// 스캔하는 동안 글 작성/수정/삭제는 막지 않고 기록만 해 두었다가, 교체 직전에 새 세그먼트에 다시 적용한다.
+	// 재구축끼리는 동시에 돌지 않는다.
+	public synchronized int rebuild(Consumer<Consumer<Doc>> source) {
+		Segment rebuilt = new Segment();
+
+		synchronized (lock) {
+			changesDuringRebuild = new ArrayList<>();
+		}
+
+		try {
+			source.accept(doc -> rebuilt.put(doc.withContentUpTo(contentMaxLength)));
+
+			synchronized (lock) {
+				changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+				segment = rebuilt;
+			}
+		} finally {
+			synchronized (lock) {
+				changesDuringRebuild = null;
+			}
+		}
+
+		return rebuilt.docs.size();
+	}
+
+	private static boolean containsAll(List<Set<Long>> candidates, Long id) {
+		for (int i = 1; i < candidates.size(); i++) {
+			if (!candidates.get(i).contains(id)) return false;
+		}
+		return true;
+	}
+
+	private static int countOccurrences(String text, String query) {
+		int count = 0;
+		int from = text.indexOf(query);
+		while (from >= 0) {
+			count++;
+			from = text.indexOf(query, from + query.length());
+		}
+		return count;
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	private static Set<String> queryTokens(String query) {
+		if (query.length() == 1) {
+			return Set.of(query);
+		}
+
+		Set<String> tokens = new HashSet<>();
+		for (int i = 0; i + 2 <= query.length(); i++) {
+			tokens.add(query.substring(i, i + 2));
+		}
+		return tokens;
+	}
+
+	private static Set<String> indexTokens(String text) {
+		Set<String> tokens = new HashSet<>();
+		for (int i = 0; i < text.length(); i++) {
+			tokens.add(text.substring(i, i + 1));
+			if (i + 2 <= text.length()) {
+				tokens.add(text.substring(i, i + 2));
+			}
+		}
+		return tokens;
+	}
+
+	private static class Segment {
+		private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+		private final Map<Field, Map<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+
+		Segment() {
+			for (Field field : Field.values()) {
+				postings.put(field, new ConcurrentHashMap<>());
+			}
+		}
+
+		void put(Doc doc) {
+			remove(doc.id());
+			docs.put(doc.id(), doc);
+
+			for (Field field : Field.values()) {
+				Map<String, Set<Long>> fieldPostings = postings.get(field);
+				for (String token : indexTokens(doc.text(field))) {
+					fieldPostings.computeIfAbsent(token, _ -> ConcurrentHashMap.newKeySet()).add(doc.id());
+				}
+			}
+		}
+
+		void remove(long id) {
+			Doc old = docs.remove(id);
+			if (old == null) return;
+
+			for (Field field : Field.values()) {
+				Map<String, Set<Long>> fieldPostings = postings.get(field);
+				for (String token : indexTokens(old.text(field))) {
+					fieldPostings.computeIfPresent(token, (_, ids) -> {
+						ids.remove(id);
+						return ids.isEmpty() ? null : ids;
+					});
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.resttdd.domain.post.post.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.resttdd.domain.post.post.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 검색어 없는 공개 목록(listed = true)의 전체 개수는 모든 요청에서 같으므로 메모리에 들고 있는다.
+// 글 작성/삭제 시 커밋 이후에 증감하고, 놓친 변경이 쌓이지 않도록 일정 주기마다 COUNT 로 다시 맞춘다.
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+	private final PostRepository postRepository;
+
+	private final AtomicLong listedCount = new AtomicLong(-1); // -1: 아직 읽지 않음
+	private final ReentrantLock reloadLock = new ReentrantLock();
+	private volatile long loadedAt;
+
+	@Value("${custom.post.listed-count.resync-interval}")
+	private Duration resyncInterval;
+
+	public long getListedCount() {
+		long count = listedCount.get();
+		if (count >= 0 && System.nanoTime() - loadedAt <= resyncInterval.toNanos()) {
+			return count;
+		}
+
+		// 한 스레드만 다시 읽고, 나머지는 COUNT 가 끝나길 기다리지 않는다.
+		// 이전 값이 있으면 그대로 쓰고, 처음 읽는 중이면 각자 COUNT 한다. (기동 직후 한 번뿐이다)
+		if (!reloadLock.tryLock()) {
+			return count >= 0 ? count : postRepository.countByListed(true);
+		}
+
+		try {
+			return reload();
+		} finally {
+			reloadLock.unlock();
+		}
+	}
+
+	public void addListed(long delta) {
+		listedCount.getAndUpdate(count -> count < 0 ? count : count + delta);
+	}
+
+	private long reload() {
+		long count = postRepository.countByListed(true);
+		listedCount.set(count);
+		loadedAt = System.nanoTime();
+		return count;
+	}
+}
@@ -1,17 +1,41 @@
 package com.resttdd.domain.post.post.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.resttdd.domain.member.member.entity.Member;
+import com.resttdd.domain.post.post.dto.PostDto;
+import com.resttdd.domain.post.post.dto.PostVersionDto;
+import com.resttdd.domain.post.post.dto.PostWithContnetDto;
 import com.resttdd.domain.post.post.entity.Post;
 import com.resttdd.domain.post.post.repository.PostRepository;
+import com.resttdd.domain.post.post.search.PostSearchIndex;
+import com.resttdd.domain.post.post.search.PostSearchIndex.Field;
+import com.resttdd.global.cache.CacheConfig;
+import com.resttdd.global.transaction.AfterCommit;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -19,10 +43,19 @@ import lombok.RequiredArgsConstructor;
 public class PostService {
 
 	private final PostRepository postRepository;
+	private final PostSearchIndex postSearchIndex;
+	private final PostCountCache postCountCache;
+	private final PlatformTransactionManager transactionManager;
+	private final EntityManager em;
+	private final CacheManager cacheManager;
+	private final PostViewCounter postViewCounter;
+	private final PostTrendingRanking postTrendingRanking;
+
+	private static final int STREAM_CLEAR_INTERVAL = 1000;
 
 	public Post write(Member author, String title, String content, boolean published, boolean listed) {
 
-		return postRepository.save(
+		Post post = postRepository.save(
 			Post
 				.builder()
 				.author(author)
@@ -32,28 +65,112 @@ public class PostService {
 				.listed(listed)
 				.build()
 		);
+
+		PostSearchIndex.Doc doc = PostSearchIndex.Doc.of(post);
+		AfterCommit.run(() -> {
+			postSearchIndex.put(doc);
+			if (listed) postCountCache.addListed(1);
+		});
+
+		return post;
 	}
 
-	public List<Post> getItems() {
-		return postRepository.findAll();
+	// 대량 작성(가져오기)용. 한 트랜잭션에서 저장하고, INSERT 는 hibernate.jdbc.batch_size 단위로 묶여서 나간다.
+	@Transactional
+	public List<Post> writeAll(List<Post> posts) {
+		List<Post> saved = postRepository.saveAll(posts);
+
+		List<PostSearchIndex.Doc> docs = saved.stream().map(PostSearchIndex.Doc::of).toList();
+		long listedCount = saved.stream().filter(Post::isListed).count();
+		AfterCommit.run(() -> {
+			docs.forEach(postSearchIndex::put);
+			if (listedCount > 0) postCountCache.addListed(listedCount);
+		});
+
+		return saved;
+	}
+
+	// 전체 글을 순회하는 배치 작업용. findAll() 처럼 전체 목록을 메모리에 올리지 않는다.
+	// 별도의 읽기 전용 트랜잭션에서 스트림으로 읽으며, STREAM_CLEAR_INTERVAL 건마다 영속성 컨텍스트를 비워서
+	// 글이 몇 건이든 일정한 메모리로 돈다. 그래서 action 은 받은 글을 다음 글로 넘어가기 전에 다 써야 한다.
+	public void forEachItem(Consumer<Post> action) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<Post> posts = postRepository.streamAllByOrderById()) {
+				int count = 0;
+				for (Post post : (Iterable<Post>)posts::iterator) {
+					action.accept(post);
+
+					if (++count % STREAM_CLEAR_INTERVAL == 0) {
+						em.clear();
+					}
+				}
+			}
+		});
 	}
 
 	public Optional<Post> getItem(long id) {
 		return postRepository.findById(id);
 	}
 
+	public Optional<Post> getItemWithAuthor(long id) {
+		return postRepository.findWithAuthorById(id);
+	}
+
+	// 공개글만 캐시한다. 비공개 글은 요청자마다 권한 확인이 필요하므로 공유 캐시에 넣지 않는다.
+	@Cacheable(cacheNames = CacheConfig.POST_WITH_CONTENT, key = "#id", unless = "#result == null || !#result.published")
+	public Optional<PostWithContnetDto> getItemWithContent(long id) {
+		return postRepository.findWithAuthorById(id).map(PostWithContnetDto::new);
+	}
+
+	// 조건부 요청(304) 판단용. 캐시에 본문이 있으면 그 값을 쓰고, 없으면 버전 컬럼만 읽는다.
+	public Optional<PostVersionDto> getItemVersion(long id) {
+		Cache cache = cacheManager.getCache(CacheConfig.POST_WITH_CONTENT);
+		PostWithContnetDto cached = cache == null ? null : cache.get(id, PostWithContnetDto.class);
+		if (cached != null) {
+			return Optional.of(new PostVersionDto(cached));
+		}
+
+		return postRepository.findVersionById(id);
+	}
+
+	public Optional<Long> getCommentVersion(long id) {
+		return postRepository.findCommentVersionById(id);
+	}
+
+	public boolean exists(long id) {
+		return postRepository.existsById(id);
+	}
+
 	public long count() {
 		return postRepository.count();
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.POST_WITH_CONTENT, key = "#post.id")
 	public void delete(Post post) {
 		postRepository.delete(post);
+
+		long id = post.getId();
+		boolean listed = post.isListed();
+		AfterCommit.run(() -> {
+			postSearchIndex.remove(id);
+			postViewCounter.remove(id);
+			postTrendingRanking.remove(id);
+			if (listed) postCountCache.addListed(-1);
+		});
 	}
 
 	@Transactional
+	@CacheEvict(cacheNames = CacheConfig.POST_WITH_CONTENT, key = "#post.id")
 	public void modify(Post post, String title, String content) {
 		post.setTitle(title);
 		post.setContent(content);
+
+		PostSearchIndex.Doc doc = PostSearchIndex.Doc.of(post);
+		AfterCommit.run(() -> postSearchIndex.put(doc));
 	}
 
 	public void flush() {
@@ -64,21 +181,86 @@ public class PostService {
 		return postRepository.findTopByOrderByIdDesc();
 	}
 
-	public Page<Post> getListedItems(int page, int pageSize, String keywordType, String keyword) {
+	// 검색어가 없으면 전체 개수는 PostCountCache 에 캐시된 값을 쓴다. (COUNT 쿼리 없음)
+	public Page<PostDto> getListedItems(int page, int pageSize, String keywordType, String keyword) {
 		PageRequest pageRequest = PageRequest.of(page - 1, pageSize);
-		String likeKeyword = "%" + keyword + "%";
-		if (keywordType.equals("content")) {
-			return postRepository.findByListedAndContentLike(true, likeKeyword, pageRequest);
+		if (keyword.isBlank()) {
+			List<PostDto> posts = postRepository.findDtoByListed(true, pageRequest);
+			return new PageImpl<>(posts, pageRequest, postCountCache.getListedCount());
 		}
-		return postRepository.findByListedAndTitleLike(true, likeKeyword, pageRequest);
+
+		List<Long> ids = postSearchIndex.search(Field.of(keywordType), keyword, PostSearchIndex.Doc::listed);
+		return toPage(ids, pageRequest);
 	}
 
-	public Page<Post> getMines(int page, int pageSize, Member author, String keywordType, String keyword) {
+	public Page<PostDto> getMines(int page, int pageSize, Member author, String keywordType, String keyword) {
 		PageRequest pageRequest = PageRequest.of(page - 1, pageSize);
-		String likeKeyword = "%" + keyword + "%";
-		if (keywordType.equals("content")) {
-			return postRepository.findByAuthorAndContentLike(author, likeKeyword, pageRequest);
+		if (keyword.isBlank()) {
+			return postRepository.findDtoByAuthor(author, pageRequest);
 		}
-		return postRepository.findByAuthorAndTitleLike(author, likeKeyword, pageRequest);
+
+		List<Long> ids = postSearchIndex.search(Field.of(keywordType), keyword, doc -> doc.authorId() == author.getId());
+		return toPage(ids, pageRequest);
+	}
+
+	// 다음 페이지 존재 여부를 알 수 있도록 pageSize + 1 개를 읽는다.
+	public List<PostDto> getListedItemsAfter(long after, int pageSize, String keywordType, String keyword) {
+		if (keyword.isBlank()) {
+			return postRepository.findDtoByListedAndIdGreaterThan(true, after, PageRequest.ofSize(pageSize + 1));
+		}
+
+		List<Long> ids = postSearchIndex.search(Field.of(keywordType), keyword, doc -> doc.listed() && doc.id() > after);
+		return findDtoByIdInOrder(idsAscending(ids, pageSize + 1));
+	}
+
+	public List<PostDto> getMinesAfter(long after, int pageSize, Member author, String keywordType, String keyword) {
+		if (keyword.isBlank()) {
+			return postRepository.findDtoByAuthorAndIdGreaterThan(author, after, PageRequest.ofSize(pageSize + 1));
+		}
+
+		List<Long> ids = postSearchIndex.search(Field.of(keywordType), keyword,
+			doc -> doc.authorId() == author.getId() && doc.id() > after);
+		return findDtoByIdInOrder(idsAscending(ids, pageSize + 1));
+	}
+
+	// 내보내기용: after 이후의 글을 내용까지 포함해 id 순으로 size 개 읽는다.
+	public List<PostWithContnetDto> getItemsWithContentAfter(long after, int size) {
+		return postRepository.findWithContentDtoByIdGreaterThan(after, PageRequest.ofSize(size));
+	}
+
+	public int rebuildSearchIndex() {
+		return postSearchIndex.rebuild(sink -> forEachItem(post -> sink.accept(PostSearchIndex.Doc.of(post))));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initSearchIndex() {
+		rebuildSearchIndex();
+	}
+
+	private Page<PostDto> toPage(List<Long> ids, PageRequest pageRequest) {
+		int from = (int)Math.min(pageRequest.getOffset(), ids.size());
+		int to = Math.min(from + pageRequest.getPageSize(), ids.size());
+
+		return new PageImpl<>(findDtoByIdInOrder(ids.subList(from, to)), pageRequest, ids.size());
+	}
+
+	// 커서 모드는 관련도가 아니라 id 순서로 이어서 읽어야 한다.
+	private List<Long> idsAscending(List<Long> ids, int limit) {
+		return ids.stream().sorted().limit(limit).toList();
+	}
+
+	private List<PostDto> findDtoByIdInOrder(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, PostDto> postsById = postRepository.findDtoByIdIn(ids)
+			.stream()
+			.collect(Collectors.toMap(PostDto::getId, Function.identity()));
+
+		return ids.stream()
+			.map(postsById::get)
+			.filter(Objects::nonNull)
+			.toList();
 	}
 }
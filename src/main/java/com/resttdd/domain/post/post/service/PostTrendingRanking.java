@@ -0,0 +1,152 @@
+package com.resttdd.domain.post.post.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.resttdd.domain.post.post.dto.PostDto;
+import com.resttdd.domain.post.post.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 인기 글 순위. 조회/댓글이 생길 때마다 글의 점수를 메모리에서 올리고, 주기적으로 상위 글 목록(스냅샷)을 만들어 둔다.
+// 점수는 시간이 지나면 반감기(half-life)마다 절반이 되는 감쇠 점수다.
+// 매번 모든 글의 점수를 깎는 대신 기준 시각(landmark)으로부터 지난 시간만큼 가중치를 키워서 더한다. (forward decay)
+// 그래서 기록은 더하기 한 번이고, 글들의 상대 순위는 감쇠를 적용하지 않아도 그대로다.
+// 점수는 메모리에만 있으므로 재시작하면 처음부터 다시 쌓인다.
+@Component
+@RequiredArgsConstructor
+public class PostTrendingRanking {
+
+	private static final double VIEW_WEIGHT = 1;
+	private static final double COMMENT_WEIGHT = 5;
+
+	// 가중치 exp(지수)가 double 범위를 넘지 않도록, 지수가 이 값을 넘으면 기준 시각을 현재로 옮긴다. (반감기 6시간이면 약 3주마다)
+	private static final double REBASE_EXPONENT = 64;
+	// 감쇠된 점수가 이보다 작아진 글은 순위 후보에서 지워서 메모리가 계속 늘지 않게 한다.
+	private static final double PRUNE_SCORE = 0.01;
+	// 비공개/미노출/삭제된 글을 걸러내고도 size 개가 남도록 후보를 넉넉히 뽑는다.
+	private static final int CANDIDATE_FACTOR = 3;
+
+	private final PostRepository postRepository;
+
+	@Value("${custom.post.trending.half-life}")
+	private Duration halfLife;
+
+	@Value("${custom.post.trending.size}")
+	private int size;
+
+	private volatile Epoch epoch = new Epoch(System.nanoTime());
+	private volatile List<PostDto> top = List.of();
+
+	private record Epoch(long landmark, Map<Long, DoubleAdder> scores) {
+
+		Epoch(long landmark) {
+			this(landmark, new ConcurrentHashMap<>());
+		}
+	}
+
+	private record Candidate(long id, double score) {
+	}
+
+	public void recordView(long id) {
+		add(id, VIEW_WEIGHT);
+	}
+
+	public void recordComments(long id, int count) {
+		add(id, COMMENT_WEIGHT * count);
+	}
+
+	public void remove(long id) {
+		epoch.scores().remove(id);
+		top = top.stream().filter(post -> post.getId() != id).toList();
+	}
+
+	// 마지막 refresh() 때 만든 상위 글 목록. 요청 시에는 DB 나 점수표를 보지 않는다.
+	public List<PostDto> getTop() {
+		return top;
+	}
+
+	@Scheduled(fixedDelayString = "${custom.post.trending.refresh-interval}")
+	public synchronized void refresh() {
+		long now = System.nanoTime();
+		Epoch latest = epoch;
+		Epoch current = exponent(latest, now) > REBASE_EXPONENT ? rebase(latest, now) : latest;
+
+		double decay = Math.exp(-exponent(current, now));
+		int candidateSize = size * CANDIDATE_FACTOR;
+
+		// 점수가 가장 낮은 후보가 맨 앞에 오는 크기 제한 힙으로 상위 candidateSize 개만 남긴다.
+		PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+		current.scores().forEach((id, adder) -> {
+			double score = adder.sum();
+			if (score * decay < PRUNE_SCORE) {
+				current.scores().remove(id, adder);
+				return;
+			}
+
+			candidates.offer(new Candidate(id, score));
+			if (candidates.size() > candidateSize) candidates.poll();
+		});
+
+		List<Long> ids = new ArrayList<>(candidates.size());
+		while (!candidates.isEmpty()) ids.add(candidates.poll().id());
+		ids = ids.reversed();
+
+		top = ids.isEmpty() ? List.of() : findListedInOrder(ids);
+	}
+
+	private void add(long id, double weight) {
+		Epoch current = epoch;
+		current.scores()
+			.computeIfAbsent(id, _ -> new DoubleAdder())
+			.add(weight * Math.exp(exponent(current, System.nanoTime())));
+	}
+
+	private double exponent(Epoch epoch, long now) {
+		return Math.log(2) * (now - epoch.landmark()) / halfLife.toNanos();
+	}
+
+	// 기준 시각을 now 로 옮기고 기존 점수를 그만큼 줄여서 옮겨 담는다.
+	// 옮기는 도중 이전 점수표에 더해진 몇 건은 빠질 수 있지만, 순위용 근사치라 허용한다.
+	private Epoch rebase(Epoch old, long now) {
+		Epoch rebased = new Epoch(now);
+		epoch = rebased;
+
+		double decay = Math.exp(-exponent(old, now));
+		old.scores().forEach((id, adder) -> {
+			double score = adder.sum() * decay;
+			if (score >= PRUNE_SCORE) {
+				rebased.scores().computeIfAbsent(id, _ -> new DoubleAdder()).add(score);
+			}
+		});
+
+		return rebased;
+	}
+
+	// 목록에 노출되는 공개 글만 점수 순서대로 size 개
+	private List<PostDto> findListedInOrder(List<Long> ids) {
+		Map<Long, PostDto> postsById = postRepository.findDtoByIdIn(ids)
+			.stream()
+			.collect(Collectors.toMap(PostDto::getId, Function.identity()));
+
+		return ids.stream()
+			.map(postsById::get)
+			.filter(Objects::nonNull)
+			.filter(post -> post.isPublished() && post.isListed())
+			.limit(size)
+			.toList();
+	}
+}
@@ -0,0 +1,201 @@
+package com.resttdd.domain.post.post.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.resttdd.domain.post.post.dto.PostWithContnetDto;
+import com.resttdd.global.cache.CacheConfig;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 글 조회수는 조회마다 UPDATE 하지 않고 메모리에서 세었다가 주기적으로 한 번에 반영한다. (write-behind)
+// 글마다 LongAdder 를 두므로 같은 글을 동시에 조회해도 한 곳에서 경합하지 않는다.
+// 반영 주기(flush-interval) 안의 조회수는 프로세스가 비정상 종료되면 유실될 수 있다. 정상 종료 시에는 마지막으로 한 번 반영한다.
+// 반영이 끝나고 더 쌓인 조회가 없는 글의 카운터는 지워서, 한 번이라도 조회된 글의 카운터가 계속 남아 있지 않게 한다.
+// 지우기 직전에 카운터를 얻어 간 increment() 가 지워진 카운터에 더할 수 있으므로, 지운 카운터는 다음 반영 때까지 들고 있다가
+// 그 사이 더해진 조회수를 새 카운터로 옮긴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+	private static final String UPDATE_SQL = "update post set view_count = view_count + ? where id = ?";
+	private static final int BATCH_SIZE = 100;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PlatformTransactionManager transactionManager;
+	private final CacheManager cacheManager;
+
+	private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+	private final Map<Long, Counter> retired = new HashMap<>(); // flushLock 안에서만 쓴다
+
+	// flush() 끼리만 쓰는 락. 조회 요청은 이 락을 잡지 않는다.
+	// synchronized 와 달리 가상 스레드가 JDBC 를 기다리는 동안 캐리어 스레드에 고정되지 않는다.
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	// flush() 가 DB 커밋부터 flushed 기록, 캐시 비우기까지 진행 중이면 홀수다. (seqlock, flushLock 을 잡은 스레드만 바꾼다)
+	private volatile long flushSeq;
+
+	// 누적 조회수(views)는 줄지 않고, DB 에 반영된 만큼을 flushed 에 기록해 둔다.
+	// 반영할 때 카운터를 비우거나 교체하지 않으므로, 반영 도중에 들어온 조회도 다음 반영에 그대로 포함된다.
+	private static class Counter {
+		private final LongAdder views = new LongAdder();
+		private volatile long flushed; // flush() 에서만 바뀐다
+
+		long pending() {
+			return views.sum() - flushed;
+		}
+	}
+
+	private record Delta(long id, Counter counter, long total, long delta) {
+	}
+
+	// 삭제된 글의 카운터를 치운다. (반영 안 된 조회수는 버린다)
+	public void remove(long id) {
+		counters.remove(id);
+	}
+
+	public void increment(long id) {
+		counters.computeIfAbsent(id, _ -> new Counter()).views.increment();
+	}
+
+	// 아직 DB 에 반영되지 않은 조회수
+	public long pending(long id) {
+		Counter counter = counters.get(id);
+		return counter == null ? 0 : counter.pending();
+	}
+
+	// 글 본문(캐시 또는 DB)을 읽고, 본문의 조회수에 아직 반영되지 않은 조회수를 더한다.
+	// 반영 중에 읽으면 커밋된 view_count 와 아직 줄지 않은 pending 에 같은 조회가 두 번 들어가거나,
+	// flushed 는 올랐는데 캐시에는 이전 본문이 남아 있어 빠질 수 있다.
+	// 그래서 읽는 동안 반영이 진행 중이었거나 새로 시작됐으면 반영을 기다리지 않고, 본문의 조회수만 돌려준다.
+	// (잠깐 적게 보일 수는 있어도 두 번 세지는 않는다) 반영 전에 읽혀 캐시에 들어갔을 수 있는 본문은 치운다.
+	public Optional<PostWithContnetDto> readWithPending(long id, Supplier<Optional<PostWithContnetDto>> load) {
+		long seq = flushSeq;
+		Optional<PostWithContnetDto> post = load.get();
+		long pending = pending(id);
+
+		if ((seq & 1) == 0 && seq == flushSeq) return post.map(p -> p.withPendingViews(pending));
+
+		evictCached(id);
+		return post;
+	}
+
+	@Scheduled(
+		fixedDelayString = "${custom.post.view-count.flush-interval}",
+		initialDelayString = "${custom.post.view-count.flush-interval}"
+	)
+	public void scheduledFlush() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			// flushed 를 올리지 않았으므로 다음 주기에 다시 반영된다.
+			log.warn("조회수 반영에 실패했습니다.", e);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	// 반영할 조회수가 있는 글들을 id 순으로 BATCH_SIZE 개씩 묶어 UPDATE 한다. 반영한 글 수를 돌려준다.
+	public int flush() {
+		flushLock.lock();
+		try {
+			return flushLocked();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private int flushLocked() {
+		carryOverRetired();
+
+		List<Delta> deltas = new ArrayList<>();
+		counters.forEach((id, counter) -> {
+			long total = counter.views.sum();
+			long delta = total - counter.flushed;
+			if (delta > 0) deltas.add(new Delta(id, counter, total, delta));
+		});
+
+		if (deltas.isEmpty()) {
+			retireIdle();
+			return 0;
+		}
+
+		// 여러 인스턴스가 같은 글들을 갱신해도 락 순서가 같도록 id 순으로 보낸다.
+		deltas.sort((a, b) -> Long.compare(a.id(), b.id()));
+
+		// 호출한 쪽의 트랜잭션과 상관없이 여기서 커밋까지 끝낸다.
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		flushSeq++;
+		try {
+			transactionTemplate.executeWithoutResult(status ->
+				jdbcTemplate.batchUpdate(UPDATE_SQL, deltas, BATCH_SIZE, (ps, d) -> {
+					ps.setLong(1, d.delta());
+					ps.setLong(2, d.id());
+				})
+			);
+
+			// 커밋된 뒤에만 반영분을 기록하고, 캐시된 본문의 조회수(view_count)가 새 값으로 다시 읽히도록 비운다.
+			for (Delta d : deltas) {
+				d.counter().flushed = d.total();
+				evictCached(d.id());
+			}
+		} finally {
+			flushSeq++;
+		}
+
+		retireIdle();
+
+		return deltas.size();
+	}
+
+	// 지난 반영 때 지운 카운터에 그 뒤로 더해진 조회수를 지금 쓰이는 카운터로 옮긴다.
+	private void carryOverRetired() {
+		retired.forEach((id, counter) -> {
+			long late = counter.pending();
+			if (late > 0) counters.computeIfAbsent(id, _ -> new Counter()).views.add(late);
+		});
+		retired.clear();
+	}
+
+	// 반영할 조회수가 남지 않은 카운터를 지운다. 검사와 지우기 사이에 더해진 조회는 다음 반영 때 carryOverRetired() 가 옮긴다.
+	private void retireIdle() {
+		counters.forEach((id, _) ->
+			counters.computeIfPresent(id, (_, current) -> {
+				if (current.pending() != 0) return current;
+
+				retired.put(id, current);
+				return null;
+			})
+		);
+	}
+
+	// 트랜잭션 안에서 불려도 커밋까지 미루지 않고 바로 비운다.
+	private void evictCached(long id) {
+		Cache cache = cacheManager.getCache(CacheConfig.POST_WITH_CONTENT);
+		if (cache != null) cache.evictIfPresent(id);
+	}
+}
@@ -5,6 +5,7 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.resttdd.domain.member.member.entity.Member;
@@ -15,6 +16,7 @@ import com.resttdd.domain.post.post.service.PostService;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
+@Profile("!prod") // 운영 프로필에서는 샘플 데이터를 만들지 않는다.
 @RequiredArgsConstructor
 public class BaseInitData {
 
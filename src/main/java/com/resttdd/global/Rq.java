@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
 
+import com.resttdd.domain.member.member.dto.MemberSnapshot;
 import com.resttdd.domain.member.member.entity.Member;
 import com.resttdd.domain.member.member.service.MemberService;
 import com.resttdd.global.exception.ServiceException;
@@ -25,13 +26,14 @@ public class Rq {
 
         String authorizationValue = request.getHeader("Authorization");
         String apiKey = authorizationValue.substring("Bearer ".length());
-        Optional<Member> opActor = memberService.findByApiKey(apiKey);
+        Optional<MemberSnapshot> opActor = memberService.findSnapshotByApiKey(apiKey);
 
         if(opActor.isEmpty()) {
             throw new ServiceException("401-1", "잘못된 인증키입니다.");
         }
 
-        return opActor.get();
+        // 캐시에는 불변 스냅샷이 들어 있고, 요청마다 새 Member 를 만들어 돌려준다.
+        return Member.of(opActor.get());
 
     }
 }
@@ -2,8 +2,7 @@ package com.resttdd.global.app;
 
 public class AppConfig {
 
-    public static boolean isNotProd() {
-        return true;
-    }
+    // 목록 API 의 pageSize 상한. 한 응답의 크기와 한 번에 읽는 행 수를 제한한다.
+    public static final int MAX_PAGE_SIZE = 100;
 
 }
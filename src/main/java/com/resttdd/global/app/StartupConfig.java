@@ -0,0 +1,79 @@
+package com.resttdd.global.app;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class StartupConfig {
+
+    private static final int SLOWEST_STEPS = 10;
+
+    @Value("${custom.startup.report:false}")
+    private boolean report;
+
+    // 기동 시간 측정용. 리포트를 남긴 뒤 바로 종료한다. (./gradlew startupReportDev / startupReportProd)
+    @Value("${custom.startup.exit-after-report:false}")
+    private boolean exitAfterReport;
+
+    // lazy-initialization 을 켜도 DB 연결, 마이그레이션, 엔티티 매핑 검증은 기동 시점에 끝낸다.
+    // (첫 요청이 이 비용을 떠안거나, 잘못된 스키마로 뜬 인스턴스가 트래픽을 받는 일이 없도록)
+    @Bean
+    public static LazyInitializationExcludeFilter eagerPersistenceFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                Flyway.class,
+                FlywayMigrationInitializer.class,
+                EntityManagerFactory.class
+        );
+    }
+
+    // 기동 시간과 가장 오래 걸린 단계들을 로그로 남긴다.
+    // (/actuator/startup 은 POST 로 버퍼를 비울 수 있어서 노출하지 않는다. 기동 리포트는 이 로그로만 본다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportStartup(ApplicationReadyEvent event) {
+        if (!report) return;
+
+        log.info("기동 완료: 컨텍스트 {}ms, JVM 시작부터 {}ms",
+                event.getTimeTaken().toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime());
+
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            startup.getBufferedTimeline()
+                    .getEvents()
+                    .stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(SLOWEST_STEPS)
+                    .forEach(step -> log.info("  {}ms {} {}",
+                            step.getDuration().toMillis(),
+                            step.getStartupStep().getName(),
+                            StreamSupport.stream(step.getStartupStep().getTags().spliterator(), false)
+                                    .map(tag -> tag.getKey() + "=" + tag.getValue())
+                                    .collect(Collectors.joining(", "))));
+        }
+
+        if (exitAfterReport) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.resttdd.global.app;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// 가상 스레드 실행 모드(virtual 프로필) 전용 설정.
+// JDK 23 에서는 synchronized 블록 안에서 블로킹되면 가상 스레드가 캐리어 스레드에 고정(pinning)된다.
+// H2 드라이버는 내부적으로 synchronized 를 쓰므로, 동시에 JDBC 를 쓰는 스레드 수(커넥션 풀 크기)를 캐리어 수보다 하나 적게 잡아
+// JDBC 호출이 모두 고정돼도 다른 가상 스레드를 돌릴 캐리어가 남게 한다. 나머지 요청은 HikariCP 의 대기열(락 기반, 고정 없음)에서 기다린다.
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    // 캐리어 스레드 수. 따로 지정하지 않으면 JVM 이 쓸 수 있는 CPU 코어 수와 같다.
+    private static int carrierThreads() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    private static int maximumPoolSize() {
+        return Math.max(1, carrierThreads() - 1);
+    }
+
+    // spring.datasource.hikari.* 가 바인딩된 뒤(초기화 후), 풀이 처음 커넥션을 만들기 전에 크기를 정한다.
+    @Bean
+    public static BeanPostProcessor virtualThreadPoolSizer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int size = maximumPoolSize();
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                }
+                return bean;
+            }
+        };
+    }
+
+}
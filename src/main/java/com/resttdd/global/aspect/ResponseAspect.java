@@ -1,19 +1,37 @@
 package com.resttdd.global.aspect;
 
 import com.resttdd.global.dto.RsData;
+import com.resttdd.global.exception.ServiceException;
+import com.resttdd.global.instrument.RequestMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+
 @Aspect
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ResponseAspect {
 
+    public static final String DURATION = "app.handler.duration";
+    public static final String QUERIES = "app.handler.queries";
+    public static final String ENTITY_LOADS = "app.handler.entity.loads";
+
     private final HttpServletResponse response;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.instrument.query-warn-threshold:20}")
+    private long queryWarnThreshold;
 
     @Around("""
             (
@@ -36,14 +54,67 @@ public class ResponseAspect {
             @annotation(org.springframework.web.bind.annotation.ResponseBody)
             """)
     public Object responseAspect(ProceedingJoinPoint joinPoint) throws Throwable {
-        Object rst = joinPoint.proceed(); // 실제 수행 메서드
+        long queriesBefore = RequestMetrics.queries();
+        long entityLoadsBefore = RequestMetrics.entityLoads();
+        long start = System.nanoTime();
+        String status = "none";
 
-        if(rst instanceof RsData rsData) {
-            int statusCode = rsData.getStatusCode();
-            response.setStatus(statusCode);
+        try {
+            Object rst = joinPoint.proceed(); // 실제 수행 메서드
+
+            if(rst instanceof RsData rsData) {
+                int statusCode = rsData.getStatusCode();
+                response.setStatus(statusCode);
+                status = rsData.getRsCode().getStatus();
+            }
+
+            return rst;
+        } catch (ServiceException e) {
+            // 401 / 403 / 404 등 의도한 실패는 응답 상태 코드로 나눠서 집계한다.
+            status = e.getRsCode().getStatus();
+            throw e;
+        } catch (Throwable e) {
+            // 예상하지 못한 예외만 예외 클래스 이름으로 남긴다.
+            status = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            record(
+                    joinPoint,
+                    status,
+                    System.nanoTime() - start,
+                    RequestMetrics.queries() - queriesBefore,
+                    RequestMetrics.entityLoads() - entityLoadsBefore
+            );
         }
+    }
 
-        return rst;
+    // 핸들러별 응답 시간, 요청당 SQL 실행 수, 요청당 엔티티 로딩 수를 기록한다. (/actuator/metrics/app.handler.* 로 조회)
+    // SQL 수가 많은 요청은 N+1 의심으로 로그를 남긴다.
+    private void record(ProceedingJoinPoint joinPoint, String status, long elapsedNanos, long queries, long entityLoads) {
+        String handler = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+
+        Timer.builder(DURATION)
+                .tag("handler", handler)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(QUERIES)
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(queries);
+
+        DistributionSummary.builder(ENTITY_LOADS)
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(entityLoads);
+
+        if (queries > queryWarnThreshold) {
+            log.warn("{} 요청에서 SQL 이 {}번 실행되었습니다. (엔티티 로딩 {}건)", handler, queries, entityLoads);
+        }
     }
 
 }
@@ -0,0 +1,71 @@
+package com.resttdd.global.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MEMBER_BY_API_KEY = "memberByApiKey";
+    public static final String POST_WITH_CONTENT = "postWithContent";
+
+    @Value("${custom.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.cache.member-by-api-key.maximum-size}")
+    private long memberByApiKeyMaximumSize;
+
+    @Value("${custom.cache.member-by-api-key.ttl}")
+    private Duration memberByApiKeyTtl;
+
+    @Value("${custom.cache.post-with-content.maximum-size}")
+    private long postWithContentMaximumSize;
+
+    @Value("${custom.cache.post-with-content.ttl}")
+    private Duration postWithContentTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        if (!enabled) {
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록되지 않은 이름으로 무제한 캐시가 만들어지지 않도록 정적 모드로 둔다.
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(
+                MEMBER_BY_API_KEY,
+                Caffeine.newBuilder()
+                        .maximumSize(memberByApiKeyMaximumSize)
+                        .expireAfterWrite(memberByApiKeyTtl)
+                        .recordStats()
+                        .build()
+        );
+
+        cacheManager.registerCustomCache(
+                POST_WITH_CONTENT,
+                Caffeine.newBuilder()
+                        .maximumSize(postWithContentMaximumSize)
+                        .expireAfterWrite(postWithContentTtl)
+                        .recordStats()
+                        .build()
+        );
+
+        // put / evict 를 트랜잭션 커밋 이후로 미뤄서, 롤백된 데이터가 캐시에 남지 않게 한다.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
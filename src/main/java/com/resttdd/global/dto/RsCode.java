@@ -0,0 +1,52 @@
+package com.resttdd.global.dto;
+
+import lombok.Getter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// "200-1", "404-2" 같은 결과 코드.
+// 같은 코드 문자열은 하나의 인스턴스를 공유하고, HTTP 상태 코드는 처음 만들어질 때 한 번만 파싱한다.
+// 덕분에 응답마다 split / parseInt 를 하지 않고, 조회(of)도 캐시 적중 시 객체를 새로 만들지 않는다.
+@Getter
+public final class RsCode {
+
+    private static final ConcurrentMap<String, RsCode> CODES = new ConcurrentHashMap<>();
+
+    public static final RsCode OK = of("200-1");
+    public static final RsCode CREATED = of("201-1");
+    public static final RsCode BAD_REQUEST = of("400-1");
+    public static final RsCode UNAUTHORIZED = of("401-1");
+    public static final RsCode FORBIDDEN = of("403-1");
+    public static final RsCode NOT_FOUND = of("404-1");
+
+    private final String code;
+    private final int statusCode;
+    private final String status; // 메트릭 태그 등에 쓰는 문자열 형태 ("200")
+
+    private RsCode(String code) {
+        int dash = code.indexOf('-');
+        if (dash <= 0) {
+            throw new IllegalArgumentException("결과 코드는 '상태코드-번호' 형식이어야 합니다. : " + code);
+        }
+
+        this.code = code;
+        this.status = code.substring(0, dash);
+        this.statusCode = Integer.parseInt(status);
+    }
+
+    public static RsCode of(String code) {
+        RsCode rsCode = CODES.get(code);
+        if (rsCode != null) {
+            return rsCode;
+        }
+
+        return CODES.computeIfAbsent(code, RsCode::new);
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+
+}
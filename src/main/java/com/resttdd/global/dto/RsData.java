@@ -2,25 +2,43 @@ package com.resttdd.global.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
 
-@AllArgsConstructor
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"code", "msg", "data"})
 public class RsData<T> {
-    private String code;
-    private String msg;
-    private T data;
+    @JsonIgnore
+    private final RsCode rsCode;
+    private final String msg;
+    private final T data;
+
+    public RsData(RsCode rsCode, String msg, T data) {
+        this.rsCode = rsCode;
+        this.msg = msg;
+        this.data = data;
+    }
+
+    public RsData(RsCode rsCode, String msg) {
+        this(rsCode, msg, null);
+    }
+
+    public RsData(String code, String msg, T data) {
+        this(RsCode.of(code), msg, data);
+    }
 
     public RsData(String code, String msg) {
         this(code, msg, null);
     }
 
+    public String getCode() {
+        return rsCode.getCode();
+    }
+
     @JsonIgnore
     public int getStatusCode() {
-        String statusCodeStr = code.split("-")[0];
-        return Integer.parseInt(statusCodeStr);
+        return rsCode.getStatusCode();
     }
 
 }
@@ -23,12 +23,12 @@ import lombok.Setter;
 @EntityListeners(AuditingEntityListener.class)
 public class BaseTime extends BaseEntity {
     @CreatedDate
-    @Setter(AccessLevel.PRIVATE)
+    @Setter(AccessLevel.PROTECTED)
     @JsonProperty("createdAt")
     private LocalDateTime createdDate;
 
     @LastModifiedDate
-    @Setter(AccessLevel.PRIVATE)
+    @Setter(AccessLevel.PROTECTED)
     @JsonProperty("modifiedAt")
     private LocalDateTime modifiedDate;
 }
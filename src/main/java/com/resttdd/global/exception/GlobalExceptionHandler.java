@@ -2,18 +2,24 @@ package com.resttdd.global.exception;
 
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
-import com.resttdd.global.app.AppConfig;
+import com.resttdd.global.dto.RsCode;
 import com.resttdd.global.dto.RsData;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 운영에서 스택 트레이스가 새지 않도록 설정이 없으면 출력하지 않는다. (prod 프로필은 false)
+    @Value("${custom.exception.print-stack-trace:false}")
+    private boolean printStackTrace;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<RsData<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
 
@@ -27,24 +33,52 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST)
                 .body(
                         new RsData<>(
-                                "400-1",
+                                RsCode.BAD_REQUEST,
+                                message
+                        )
+                );
+    }
+
+
+    // @RequestParam 등에 붙은 제약(@Min, @Max ...) 위반
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<RsData<Void>> handleHandlerMethodValidationException(HandlerMethodValidationException e) {
+
+        String message = e.getAllValidationResults()
+                .stream()
+                .flatMap(result -> result.getResolvableErrors()
+                        .stream()
+                        .map(error -> result.getMethodParameter().getParameterName() + " : "
+                                + lastCode(error.getCodes()) + " : " + error.getDefaultMessage()))
+                .sorted()
+                .collect(Collectors.joining("\n"));
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(
+                        new RsData<>(
+                                RsCode.BAD_REQUEST,
                                 message
                         )
                 );
     }
 
+    private static String lastCode(String[] codes) {
+        return codes == null || codes.length == 0 ? "" : codes[codes.length - 1];
+    }
+
 
     @ExceptionHandler(ServiceException.class)
     public ResponseEntity<RsData<Void>> ServiceExceptionHandle(ServiceException ex) {
 
         // 개발 모드에서만 작동되도록.
-        if(AppConfig.isNotProd()) ex.printStackTrace();
+        if(printStackTrace) ex.printStackTrace();
 
         return ResponseEntity
                 .status(ex.getStatusCode())
                 .body(
                         new RsData<>(
-                                ex.getCode(),
+                                ex.getRsCode(),
                                 ex.getMsg()
                         )
                 );
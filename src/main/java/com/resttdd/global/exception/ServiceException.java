@@ -1,5 +1,6 @@
 package com.resttdd.global.exception;
 
+import com.resttdd.global.dto.RsCode;
 import com.resttdd.global.dto.RsData;
 
 public class ServiceException extends RuntimeException {
@@ -11,6 +12,10 @@ public class ServiceException extends RuntimeException {
         rsData = new RsData<>(code, message);
     }
 
+    public RsCode getRsCode() {
+        return rsData.getRsCode();
+    }
+
     public String getCode() {
         return rsData.getCode();
     }
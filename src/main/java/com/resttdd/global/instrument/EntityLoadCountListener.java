@@ -0,0 +1,13 @@
+package com.resttdd.global.instrument;
+
+import jakarta.persistence.PostLoad;
+
+// 영속성 컨텍스트에 엔티티가 올라올 때마다 호출된다. (BaseEntity 에 등록되어 모든 엔티티에 적용)
+public class EntityLoadCountListener {
+
+    @PostLoad
+    public void postLoad(Object entity) {
+        RequestMetrics.entityLoaded();
+    }
+
+}
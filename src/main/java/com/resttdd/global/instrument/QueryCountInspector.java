@@ -0,0 +1,15 @@
+package com.resttdd.global.instrument;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 SQL 을 실행하기 직전에 호출된다. SQL 은 바꾸지 않고 개수만 센다. (SqlCapture 중이면 SQL 도 넘긴다)
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics.queryExecuted();
+        SqlCapture.statementInspected(sql);
+        return sql;
+    }
+
+}
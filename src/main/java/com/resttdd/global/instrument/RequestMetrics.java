@@ -0,0 +1,28 @@
+package com.resttdd.global.instrument;
+
+// 현재 스레드(= 현재 요청)에서 실행된 SQL 문 수와 로딩된 엔티티 수를 센다.
+// 값은 누적만 되고, ResponseAspect 가 핸들러 실행 전후의 차이로 요청당 개수를 구한다.
+public class RequestMetrics {
+
+    private static final ThreadLocal<long[]> COUNTERS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static final int QUERIES = 0;
+    private static final int ENTITY_LOADS = 1;
+
+    public static void queryExecuted() {
+        COUNTERS.get()[QUERIES]++;
+    }
+
+    public static void entityLoaded() {
+        COUNTERS.get()[ENTITY_LOADS]++;
+    }
+
+    public static long queries() {
+        return COUNTERS.get()[QUERIES];
+    }
+
+    public static long entityLoads() {
+        return COUNTERS.get()[ENTITY_LOADS];
+    }
+
+}
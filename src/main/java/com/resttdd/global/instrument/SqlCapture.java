@@ -0,0 +1,30 @@
+package com.resttdd.global.instrument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 현재 스레드에서 Hibernate 가 실행한 SQL 을 그대로 모은다. (QueryCountInspector 가 넘겨준다)
+// 리포지토리 메서드가 실제로 만드는 SQL 의 실행 계획(EXPLAIN)을 확인하는 등 진단용으로 쓴다.
+public class SqlCapture {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static List<String> capture(Runnable action) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+
+    static void statementInspected(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.resttdd.global.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+// id 전략을 IDENTITY -> SEQUENCE 로 바꾸기 전에 만들어진 DB 는 시퀀스가 1부터 시작해서 id 가 충돌한다.
+// 테이블에 이미 데이터가 있으면 시퀀스를 max(id) 뒤로 옮긴다. (새 DB 는 테이블이 비어 있어서 아무것도 하지 않는다)
+// V1 을 건너뛴(baseline) ddl-auto 시절 DB 에는 시퀀스 자체가 없으므로 먼저 만든다.
+// Flyway 는 JavaMigration 빈을 자동으로 마이그레이션 목록에 넣는다.
+@Component
+public class V3__Align_id_sequences extends BaseJavaMigration {
+
+    // @GeneratedValue(strategy = SEQUENCE) 의 기본 allocationSize
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES = List.of("member", "post", "comment");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        for (String table : TABLES) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create sequence if not exists %s_seq start with 1 increment by %d"
+                        .formatted(table, ALLOCATION_SIZE));
+            }
+
+            long maxId = queryLong(connection, "select coalesce(max(id), 0) from " + table);
+            if (maxId == 0) continue;
+
+            // pooled optimizer 는 시퀀스 값 N 을 받으면 (N - 49) ~ N 을 쓰므로, 첫 id 가 max(id) + 1 이 되게 맞춘다.
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("alter sequence %s_seq restart with %d".formatted(table, maxId + ALLOCATION_SIZE));
+            }
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+}
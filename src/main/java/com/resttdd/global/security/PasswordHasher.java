@@ -0,0 +1,123 @@
+package com.resttdd.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.resttdd.global.exception.ServiceException;
+
+import jakarta.annotation.PreDestroy;
+
+// 비밀번호 해시(BCrypt). 해시 한 번에 수십 ms 의 CPU 를 쓰므로 요청 스레드에서 바로 돌리지 않고 전용 풀에서 돌린다.
+// 풀의 스레드 수와 대기열 크기가 동시에 돌 수 있는 해시 양의 상한이라, 로그인이 몰려도 다른 API 가 쓸 CPU 를 남긴다.
+// 대기열이 가득 차거나 정해진 시간 안에 차례가 오지 않으면 429 로 바로 거절한다. (느리게라도 받아서 모두 늦어지는 것보다 낫다)
+@Component
+public class PasswordHasher {
+
+    // BCrypt 해시 형식: $2a$10$ + salt/해시 53글자. "$2" 로 시작하기만 하는 평문 비밀번호를 해시로 오인하지 않도록 전체 형식을 본다.
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public PasswordHasher(
+            @Value("${custom.password.strength}") int strength,
+            @Value("${custom.password.hasher.threads}") int threads,
+            @Value("${custom.password.hasher.queue-capacity}") int queueCapacity,
+            @Value("${custom.password.hasher.timeout}") Duration timeout
+    ) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String hash(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (storedPassword == null) return false;
+
+        // 해시 도입 전에 가입한 회원의 평문 비밀번호. 로그인에 성공하면 MemberService 가 바로 해시로 바꿔 저장한다.
+        // (기동 시 마이그레이션으로 한꺼번에 해시하면 회원 수만큼 기동이 늦어지므로 로그인할 때 하나씩 바꾼다)
+        // 풀을 거칠 만큼 비싸지 않고, 비교 시간이 내용에 따라 달라지지 않게 한다.
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        return submit(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    // 평문으로 저장돼 있거나, 설정된 strength 보다 약하게 해시된 비밀번호는 로그인에 성공했을 때 다시 해시해서 저장한다.
+    public boolean needsUpgrade(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    private static boolean isHashed(String storedPassword) {
+        return BCRYPT_PATTERN.matcher(storedPassword).matches();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw tooManyRequests();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw tooManyRequests();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw tooManyRequests();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ServiceException tooManyRequests() {
+        return new ServiceException("429-1", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,23 @@
+package com.resttdd.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리에 들고 있는 파생 데이터(색인, 카운터 등)는 DB 커밋이 확정된 뒤에만 반영해야 롤백 시 어긋나지 않는다.
+public class AfterCommit {
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+}
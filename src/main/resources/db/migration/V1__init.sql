@@ -0,0 +1,54 @@
+-- 초기 스키마. ddl-auto: update 로 만들어지던 Member / Post / Comment 스키마와 같다.
+-- (이미 ddl-auto 로 만들어진 DB 는 baseline-on-migrate 로 이 버전을 건너뛴다)
+
+create sequence member_seq start with 1 increment by 50;
+create sequence post_seq start with 1 increment by 50;
+create sequence comment_seq start with 1 increment by 50;
+
+create table member (
+    id bigint not null,
+    created_date timestamp(6),
+    modified_date timestamp(6),
+    username varchar(100),
+    password varchar(100),
+    api_key varchar(100),
+    nickname varchar(100),
+    primary key (id),
+    constraint uk_member_username unique (username),
+    constraint uk_member_api_key unique (api_key)
+);
+
+create table post (
+    id bigint not null,
+    created_date timestamp(6),
+    modified_date timestamp(6),
+    author_id bigint,
+    title varchar(255),
+    content varchar(255),
+    published boolean not null,
+    listed boolean not null,
+    comment_count bigint default 0 not null,
+    latest_comment_content varchar(255),
+    latest_comment_author_name varchar(100),
+    latest_comment_created_date timestamp(6),
+    primary key (id)
+);
+
+create table comment (
+    id bigint not null,
+    created_date timestamp(6),
+    modified_date timestamp(6),
+    author_id bigint,
+    post_id bigint,
+    content varchar(255),
+    primary key (id)
+);
+
+-- 목록 / 커서 조회용 인덱스. 외래 키보다 먼저 만들어서 외래 키 인덱스로도 같이 쓰이게 한다.
+create index idx_post_listed_id on post (listed, id);
+create index idx_post_author_id on post (author_id, id);
+create index idx_comment_post_id on comment (post_id, id);
+
+alter table post add constraint fk_post_author foreign key (author_id) references member (id);
+alter table comment add constraint fk_comment_author foreign key (author_id) references member (id);
+alter table comment add constraint fk_comment_post foreign key (post_id) references post (id);
@@ -0,0 +1,30 @@
+-- Flyway 도입 전에 ddl-auto 로 만들어진 DB 는 baseline-on-migrate 로 V1 을 건너뛰고 여기서부터 적용된다.
+-- 그런 DB 에는 V1 에서 만든 비정규화 컬럼 / 인덱스가 없을 수 있으므로 먼저 만든다. (V1 로 만든 DB 에서는 아무것도 바뀌지 않는다)
+-- 시퀀스는 V3 이 만든다.
+alter table post add column if not exists comment_count bigint default 0 not null;
+alter table post add column if not exists latest_comment_content varchar(255);
+alter table post add column if not exists latest_comment_author_name varchar(100);
+alter table post add column if not exists latest_comment_created_date timestamp(6);
+
+create index if not exists idx_post_listed_id on post (listed, id);
+create index if not exists idx_post_author_id on post (author_id, id);
+create index if not exists idx_comment_post_id on comment (post_id, id);
+
+-- 글 내용은 길이 제한 없이 저장한다. (기존 varchar(255))
+alter table post alter column content set data type clob;
+
+-- 댓글 수 / 최신 댓글 스냅샷 채우기 (컬럼 추가 이전에 달린 댓글 반영)
+update post p
+set comment_count = (select count(*) from comment c where c.post_id = p.id);
+
+update post p
+set latest_comment_content = (
+        select c.content from comment c where c.post_id = p.id order by c.id desc limit 1
+    ),
+    latest_comment_author_name = (
+        select m.nickname from comment c join member m on m.id = c.author_id
+        where c.post_id = p.id order by c.id desc limit 1
+    ),
+    latest_comment_created_date = (
+        select c.created_date from comment c where c.post_id = p.id order by c.id desc limit 1
+    );
@@ -0,0 +1,2 @@
+-- 댓글 목록 ETag 용 버전. 댓글이 작성/수정/삭제될 때마다 올라간다.
+alter table post add column comment_version bigint default 0 not null;
@@ -0,0 +1,2 @@
+-- 글 조회수. PostViewCounter 가 메모리에서 모은 조회수를 주기적으로 더한다.
+alter table post add column view_count bigint default 0 not null;
@@ -14,15 +14,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.resttdd.domain.member.member.controller.ApiV1MemberController;
 import com.resttdd.domain.member.member.entity.Member;
 import com.resttdd.domain.member.member.service.MemberService;
+import com.resttdd.global.cache.CacheConfig;
 
 @Transactional
 @SpringBootTest
@@ -35,6 +39,12 @@ class Ap1V1MemberControllerTest {
 	@Autowired
 	private MemberService memberService;
 
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	@Nested
 	@DisplayName("회원 가입")
 	class join {
@@ -49,6 +59,7 @@ class Ap1V1MemberControllerTest {
 
 			Member member = memberService.findByUsername(username).get();
 			assertThat(member.getNickname()).isEqualTo(nickname);
+			assertThat(member.getPassword()).isNotEqualTo(password).startsWith("$2");
 			resultActions
 				.andExpect(status().isCreated()) // Expected: 201 CREATED
 				.andExpect(handler().handlerType(
@@ -202,6 +213,35 @@ class Ap1V1MemberControllerTest {
 				.andExpect(jsonPath("$.msg").value("password : NotBlank : must not be blank"));
 		}
 
+		@Test
+		@DisplayName("성공 - 평문으로 저장된 기존 비밀번호로도 로그인할 수 있고, 로그인하면 해시로 바뀐다")
+		void loginE_upgradePlaintextPassword() throws Exception {
+			jdbcTemplate.update("update member set password = ? where username = ?", "user31234", "user3");
+
+			loginRequest("user3", "user31234")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value("200-1"));
+
+			Member member = memberService.findByUsername("user3").get();
+			assertThat(member.getPassword()).startsWith("$2");
+
+			loginRequest("user3", "user31234")
+				.andExpect(status().isOk());
+		}
+
+		@Test
+		@DisplayName("성공 - \"$2\" 로 시작하는 평문 비밀번호도 해시로 오인하지 않고 로그인된다")
+		void loginF_plaintextPasswordLookingLikeHash() throws Exception {
+			jdbcTemplate.update("update member set password = ? where username = ?", "$2a$secret", "user3");
+
+			loginRequest("user3", "$2a$secret")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value("200-1"));
+
+			Member member = memberService.findByUsername("user3").get();
+			assertThat(member.getPassword()).startsWith("$2").isNotEqualTo("$2a$secret");
+		}
+
 		private ResultActions loginRequest(String username, String password) throws Exception {
 			return mvc
 				.perform(
@@ -255,6 +295,20 @@ class Ap1V1MemberControllerTest {
 				.andExpect(jsonPath("$.msg").value("잘못된 인증키입니다."));
 		}
 
+		@Test
+		@DisplayName("성공 - 인증된 회원 정보는 API key 기준으로 캐시된다")
+		@Transactional(propagation = Propagation.NOT_SUPPORTED) // 캐시 적재는 커밋 이후에 일어나므로 테스트 트랜잭션 밖에서 실행
+		void meC_cached() throws Exception {
+			String apiKey = "user1";
+			meRequest(apiKey).andExpect(status().isOk());
+
+			assertThat(cacheManager.getCache(CacheConfig.MEMBER_BY_API_KEY).get(apiKey)).isNotNull();
+
+			meRequest(apiKey)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.nickname").value("유저1"));
+		}
+
 		private ResultActions meRequest(String apiKey) throws Exception {
 			ResultActions resultActions = mvc
 				.perform(
@@ -1,5 +1,6 @@
 package com.resttdd;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
@@ -8,21 +9,37 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.resttdd.domain.member.member.service.MemberService;
+import com.resttdd.domain.post.comment.repository.CommentRepository;
 import com.resttdd.domain.post.post.controller.ApiV1PostController;
+import com.resttdd.domain.post.post.dto.PostDto;
 import com.resttdd.domain.post.post.entity.Post;
+import com.resttdd.domain.post.post.repository.PostRepository;
+import com.resttdd.domain.post.post.search.PostSearchIndex;
 import com.resttdd.domain.post.post.service.PostService;
+import com.resttdd.domain.post.post.service.PostTrendingRanking;
+import com.resttdd.domain.post.post.service.PostViewCounter;
+import com.resttdd.global.aspect.ResponseAspect;
+import com.resttdd.global.cache.CacheConfig;
+import com.resttdd.global.instrument.SqlCapture;
 
 @Transactional
 @SpringBootTest
@@ -35,6 +52,33 @@ class ApiV1PostControllerTest {
 	@Autowired
 	private PostService postService;
 
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private PostViewCounter postViewCounter;
+
+	@Autowired
+	private PostSearchIndex postSearchIndex;
+
+	@Autowired
+	private PostTrendingRanking postTrendingRanking;
+
 	@Nested
 	@DisplayName("글 목록 조회")
 	class items {
@@ -63,15 +107,15 @@ class ApiV1PostControllerTest {
 				.andExpect(jsonPath("$.data.totalPages").isNumber()); // 전체 페이지 개수
 		}
 
-		private void checkPosts(ResultActions resultActions, List<Post> posts) throws Exception {
+		private void checkPosts(ResultActions resultActions, List<PostDto> posts) throws Exception {
 			for (int i = 0; i < posts.size(); i++) {
-				Post post = posts.get(i);
+				PostDto post = posts.get(i);
 				resultActions
 					.andExpect(jsonPath("$.data.items[%d]".formatted(i)).exists())
 					.andExpect(jsonPath("$.data.items[%d].id".formatted(i)).value(post.getId()))
 					.andExpect(jsonPath("$.data.items[%d].title".formatted(i)).value(post.getTitle()))
-					.andExpect(jsonPath("$.data.items[%d].authorId".formatted(i)).value(post.getAuthor().getId()))
-					.andExpect(jsonPath("$.data.items[%d].authorName".formatted(i)).value(post.getAuthor().getNickname()))
+					.andExpect(jsonPath("$.data.items[%d].authorId".formatted(i)).value(post.getAuthorId()))
+					.andExpect(jsonPath("$.data.items[%d].authorName".formatted(i)).value(post.getAuthorName()))
 					.andExpect(jsonPath("$.data.items[%d].published".formatted(i)).value(post.isPublished()))
 					.andExpect(jsonPath("$.data.items[%d].listed".formatted(i)).value(post.isListed()))
 					.andExpect(jsonPath("$.data.items[%d].createdDate".formatted(i)).value(
@@ -169,6 +213,141 @@ class ApiV1PostControllerTest {
 				.andExpect(jsonPath("$.data.totalPages").value(2)) // 전체 페이지 개수
 				.andExpect(jsonPath("$.data.totalItems").value(5));
 		}
+
+		@Test
+		@DisplayName("성공 - after 커서를 주면 해당 글 이후부터 조회하며 다음 커서를 돌려준다")
+		void itemsE_cursor() throws Exception {
+			var after = 0L;
+			var pageSize = 3;
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts?after=%d&pageSize=%d".formatted(after, pageSize))
+				)
+				.andDo(print());
+			var posts = postService.getListedItemsAfter(after, pageSize, "title", "");
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().handlerType(ApiV1PostController.class))
+				.andExpect(handler().methodName("getItemsAfter"))
+				.andExpect(jsonPath("$.code").value("200-1"))
+				.andExpect(jsonPath("$.msg").value("글 목록 조회가 완료되었습니다."))
+				.andExpect(jsonPath("$.data.items.length()").value(pageSize))
+				.andExpect(jsonPath("$.data.totalItems").doesNotExist())
+				.andExpect(jsonPath("$.data.nextCursor").value(posts.get(pageSize - 1).getId()));
+			checkPosts(resultActions, posts.subList(0, pageSize));
+		}
+
+		@Test
+		@DisplayName("성공 - 마지막 커서 이후에는 글이 없고 다음 커서도 없다")
+		void itemsF_cursorEnd() throws Exception {
+			var after = postService.getLatestItem().get().getId();
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts?after=%d".formatted(after))
+				)
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().methodName("getItemsAfter"))
+				.andExpect(jsonPath("$.data.items.length()").value(0))
+				.andExpect(jsonPath("$.data.nextCursor").value(nullValue()));
+		}
+
+		@Test
+		@DisplayName("성공 - 검색은 대소문자를 구분하지 않는다")
+		void itemsG_searchIgnoreCase() throws Exception {
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts?keywordType=title&keyword=TITLE")
+				)
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().methodName("getItems"))
+				.andExpect(jsonPath("$.data.totalItems").value(7));
+		}
+
+		@Test
+		@DisplayName("성공 - 검색어가 없으면 전체 개수는 캐시된 값을 사용한다")
+		void itemsH_cachedCount() throws Exception {
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts?page=1&pageSize=3")
+				)
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().methodName("getItems"))
+				.andExpect(jsonPath("$.data.totalItemsCached").value(true))
+				.andExpect(jsonPath("$.data.totalItems").value(8))
+				.andExpect(jsonPath("$.data.totalPages").value(3));
+		}
+
+		@Test
+		@DisplayName("성공 - 글 목록에 댓글 수와 최신 댓글이 포함된다")
+		void itemsJ_commentSummary() throws Exception {
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts?page=1&pageSize=3")
+				)
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().methodName("getItems"))
+				.andExpect(jsonPath("$.data.items[0].id").value(1))
+				.andExpect(jsonPath("$.data.items[0].commentCount").value(2))
+				.andExpect(jsonPath("$.data.items[0].latestCommentContent").value("공격수 자리 있나요?"))
+				.andExpect(jsonPath("$.data.items[0].latestCommentAuthorName").value("유저2"))
+				.andExpect(jsonPath("$.data.items[1].commentCount").value(0))
+				.andExpect(jsonPath("$.data.items[1].latestCommentContent").value(nullValue()));
+		}
+
+		@Test
+		@DisplayName("성공 - 글 목록 조회는 엔티티를 로딩하지 않고, 요청당 SQL 실행 수가 글 개수와 무관하다")
+		void itemsI_metrics() throws Exception {
+			mvc
+				.perform(
+					get("/api/v1/posts?page=1&pageSize=10")
+				)
+				.andDo(print())
+				.andExpect(status().isOk());
+
+			var queries = meterRegistry.find(ResponseAspect.QUERIES)
+				.tag("handler", "ApiV1PostController.getItems")
+				.summary();
+			var entityLoads = meterRegistry.find(ResponseAspect.ENTITY_LOADS)
+				.tag("handler", "ApiV1PostController.getItems")
+				.summary();
+
+			assertThat(queries).isNotNull();
+			assertThat(queries.count()).isPositive();
+			assertThat(queries.max()).isLessThanOrEqualTo(2); // 목록 1번 + (최초 1회) 전체 개수
+			assertThat(entityLoads.max()).isZero();
+			assertThat(meterRegistry.find(ResponseAspect.DURATION)
+				.tag("handler", "ApiV1PostController.getItems")
+				.timer()).isNotNull();
+		}
+
+		@Test
+		@DisplayName("실패 - pageSize 는 서버가 허용하는 최대값을 넘을 수 없다")
+		void itemsK_pageSizeLimit() throws Exception {
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts?page=1&pageSize=1000")
+				)
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isBadRequest())
+				.andExpect(handler().methodName("getItems"))
+				.andExpect(jsonPath("$.code").value("400-1"))
+				.andExpect(jsonPath("$.msg").value(startsWith("pageSize : Max : ")));
+		}
 	}
 
 	@Nested
@@ -192,6 +371,73 @@ class ApiV1PostControllerTest {
 			checkPost(resultActions, post);
 		}
 
+		@Test
+		@DisplayName("성공 - 공개글은 ETag 가 같으면 본문 없이 304 를 받는다")
+		void itemA_notModified() throws Exception {
+			var postId = 2L;
+			var etag = itemRequest("", postId)
+				.andExpect(status().isOk())
+				.andExpect(header().exists("ETag"))
+				.andExpect(header().exists("Last-Modified"))
+				.andReturn()
+				.getResponse()
+				.getHeader("ETag");
+
+			mvc
+				.perform(
+					get("/api/v1/posts/%d".formatted(postId))
+						.header("If-None-Match", etag)
+				)
+				.andDo(print())
+				.andExpect(status().isNotModified())
+				.andExpect(handler().methodName("getItem"))
+				.andExpect(content().string(""));
+		}
+
+		@Test
+		@DisplayName("성공 - 조회수는 메모리에서 세었다가 모아서 반영되고, 응답에는 반영 전 조회수까지 포함된다")
+		void itemA_viewCount() throws Exception {
+			var postId = 2L;
+			long before = viewCountOf(itemRequest("", postId));
+
+			assertThat(viewCountOf(itemRequest("", postId))).isEqualTo(before + 1);
+
+			postViewCounter.flush();
+
+			assertThat(postViewCounter.pending(postId)).isZero();
+			assertThat(jdbcTemplate.queryForObject("select view_count from post where id = ?", Long.class, postId))
+				.isEqualTo(before + 1);
+			assertThat(viewCountOf(itemRequest("", postId))).isEqualTo(before + 2);
+		}
+
+		@Test
+		@DisplayName("성공 - 반영이 끝나고 더 조회되지 않은 글의 카운터는 지워지고, 다시 조회되면 이어서 센다")
+		void itemA_viewCountIdleCounterRemoved() throws Exception {
+			var postId = 2L;
+			postViewCounter.flush(); // 다른 테스트에서 쌓인 조회수
+
+			long before = viewCountOf(itemRequest("", postId));
+
+			assertThat(postViewCounter.flush()).isEqualTo(1);
+			assertThat(postViewCounter.flush()).isZero();
+			assertThat(postViewCounter.pending(postId)).isZero();
+
+			assertThat(viewCountOf(itemRequest("", postId))).isEqualTo(before + 1);
+			assertThat(postViewCounter.pending(postId)).isEqualTo(1);
+
+			postViewCounter.flush();
+
+			assertThat(jdbcTemplate.queryForObject("select view_count from post where id = ?", Long.class, postId))
+				.isEqualTo(before + 1);
+		}
+
+		private long viewCountOf(ResultActions resultActions) throws Exception {
+			resultActions.andExpect(status().isOk());
+
+			return ((Number)JsonPath.read(resultActions.andReturn().getResponse().getContentAsString(),
+				"$.data.viewCount")).longValue();
+		}
+
 		@Test
 		@DisplayName("실패 - 존재하지 않는 글을 조회하면 실패한다")
 		void itemB() throws Exception {
@@ -205,6 +451,12 @@ class ApiV1PostControllerTest {
 				.andExpect(handler().methodName("getItem"))
 				.andExpect(jsonPath("$.code").value("404-1"))
 				.andExpect(jsonPath("$.msg").value("존재하지 않는 글입니다."));
+
+			// ServiceException 으로 끝난 요청은 예외 이름이 아니라 응답 상태 코드로 집계된다.
+			assertThat(meterRegistry.find(ResponseAspect.DURATION)
+				.tag("handler", "ApiV1PostController.getItem")
+				.tag("status", "404")
+				.timer()).isNotNull();
 		}
 
 		@Test
@@ -222,6 +474,35 @@ class ApiV1PostControllerTest {
 				.andExpect(jsonPath("$.msg").value("비공개 설정된 글입니다."));
 		}
 
+		@Test
+		@DisplayName("성공 - 작성자는 자신의 비공개 글을 조회할 수 있다")
+		void itemD_privateByAuthor() throws Exception {
+			var postId = 1L;
+			var resultActions = itemRequest("user1", postId);
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().methodName("getItem"))
+				.andExpect(jsonPath("$.code").value("200-1"))
+				.andExpect(jsonPath("$.data.id").value(postId))
+				.andExpect(jsonPath("$.data.published").value(false));
+		}
+
+		@Test
+		@DisplayName("성공 - 공개글의 단건 조회 결과는 캐시되고, 비공개 글은 캐시되지 않는다")
+		@Transactional(propagation = Propagation.NOT_SUPPORTED) // 캐시 적재는 커밋 이후에 일어나므로 테스트 트랜잭션 밖에서 실행
+		void itemD_cache() throws Exception {
+			var publishedPostId = 3L;
+			var privatePostId = 1L;
+
+			itemRequest("", publishedPostId).andExpect(status().isOk());
+			itemRequest("user1", privatePostId).andExpect(status().isOk());
+
+			var cache = cacheManager.getCache(CacheConfig.POST_WITH_CONTENT);
+			assertThat(cache.get(publishedPostId)).isNotNull();
+			assertThat(cache.get(privatePostId)).isNull();
+		}
+
 		private ResultActions itemRequest(String apiKey, long postId) throws Exception {
 			return mvc
 				.perform(
@@ -248,6 +529,38 @@ class ApiV1PostControllerTest {
 				matchesPattern(post.getModifiedDate().toString().replaceAll("0+$", "") + ".*")));
 	}
 
+	@Nested
+	@DisplayName("인기 글 조회")
+	class trending {
+
+		@Test
+		@DisplayName("성공 - 조회/댓글 점수가 높은 공개 글부터 보여주고, 목록에 노출되지 않는 글은 빠진다")
+		void trendingA() throws Exception {
+			for (int i = 0; i < 100; i++) {
+				postTrendingRanking.recordView(9L);
+				postTrendingRanking.recordView(2L); // 미노출 글
+			}
+			postTrendingRanking.recordComments(8L, 10);
+			postTrendingRanking.refresh();
+
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts/trending")
+				)
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().handlerType(ApiV1PostController.class))
+				.andExpect(handler().methodName("getTrendingItems"))
+				.andExpect(jsonPath("$.code").value("200-1"))
+				.andExpect(jsonPath("$.msg").value("인기 글 목록 조회가 완료되었습니다."))
+				.andExpect(jsonPath("$.data[0].id").value(9))
+				.andExpect(jsonPath("$.data[1].id").value(8))
+				.andExpect(jsonPath("$.data[*].id").value(not(hasItem(2))));
+		}
+	}
+
 	@Nested
 	@DisplayName("글 작성")
 	class write {
@@ -461,4 +774,235 @@ class ApiV1PostControllerTest {
 				.andExpect(jsonPath("$.msg").value("자신이 작성한 글만 삭제 가능합니다."));
 		}
 	}
+
+	@Nested
+	@DisplayName("검색 색인 재구축")
+	class rebuildSearchIndex {
+
+		@Test
+		@DisplayName("성공 - 관리자는 검색 색인을 재구축할 수 있다")
+		void rebuildA() throws Exception {
+			var resultActions = rebuildRequest("admin");
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().handlerType(ApiV1PostController.class))
+				.andExpect(handler().methodName("rebuildSearchIndex"))
+				.andExpect(jsonPath("$.code").value("200-1"))
+				.andExpect(jsonPath("$.msg").value("검색 색인 재구축이 완료되었습니다. (%d건)".formatted(postService.count())));
+		}
+
+		@Test
+		@DisplayName("실패 - 관리자가 아니면 검색 색인을 재구축할 수 없다")
+		void rebuildB() throws Exception {
+			var resultActions = rebuildRequest("user1");
+
+			resultActions
+				.andExpect(status().isForbidden())
+				.andExpect(handler().methodName("rebuildSearchIndex"))
+				.andExpect(jsonPath("$.code").value("403-1"))
+				.andExpect(jsonPath("$.msg").value("관리자만 검색 색인을 재구축할 수 있습니다."));
+		}
+
+		@Test
+		@DisplayName("성공 - 재구축 중에도 색인 변경은 막히지 않고, 그 변경은 새 색인에 남는다")
+		void rebuildC_changesDuringRebuild() throws Exception {
+			var doc = new PostSearchIndex.Doc(999_999L, 1L, true, "재구축중작성", "");
+
+			try {
+				postSearchIndex.rebuild(sink -> {
+					postService.forEachItem(post -> sink.accept(PostSearchIndex.Doc.of(post)));
+
+					// 다른 요청 스레드의 글 작성(커밋 후 색인 반영)이 재구축을 기다리지 않고 끝나야 한다.
+					var writer = new Thread(() -> postSearchIndex.put(doc));
+					writer.start();
+					assertThatCode(() -> writer.join(1_000)).doesNotThrowAnyException();
+					assertThat(writer.isAlive()).isFalse();
+				});
+
+				assertThat(postSearchIndex.search(PostSearchIndex.Field.TITLE, "재구축중", _ -> true))
+					.containsExactly(999_999L);
+			} finally {
+				postSearchIndex.remove(doc.id());
+			}
+		}
+
+		@Test
+		@DisplayName("성공 - 내용은 앞 content-max-length 글자까지만 색인된다")
+		void rebuildD_contentMaxLength() {
+			var doc = new PostSearchIndex.Doc(999_998L, 1L, true, "긴 글", "가".repeat(1000) + "뒷부분검색어");
+
+			try {
+				postSearchIndex.put(doc);
+
+				assertThat(postSearchIndex.search(PostSearchIndex.Field.CONTENT, "가가가", _ -> true))
+					.contains(999_998L);
+				assertThat(postSearchIndex.search(PostSearchIndex.Field.CONTENT, "뒷부분검색어", _ -> true))
+					.isEmpty();
+			} finally {
+				postSearchIndex.remove(doc.id());
+			}
+		}
+
+		private ResultActions rebuildRequest(String apiKey) throws Exception {
+			return mvc
+				.perform(
+					post("/api/v1/posts/search-index/rebuild")
+						.header("Authorization", "Bearer %s".formatted(apiKey))
+				)
+				.andDo(print());
+		}
+	}
+
+	@Nested
+	@DisplayName("글 가져오기/내보내기")
+	class importExport {
+
+		@Test
+		@DisplayName("성공 - 관리자는 NDJSON 으로 글을 한 번에 가져올 수 있다")
+		void importA() throws Exception {
+			var before = postService.count();
+
+			var resultActions = importRequest("admin", """
+				{"title": "가져온 글 1", "content": "내용 1", "published": true, "listed": true}
+				{"title": "가져온 글 2", "content": "내용 2", "published": false, "listed": false}
+				""");
+
+			resultActions
+				.andExpect(status().isCreated())
+				.andExpect(handler().handlerType(ApiV1PostController.class))
+				.andExpect(handler().methodName("importItems"))
+				.andExpect(jsonPath("$.code").value("201-1"))
+				.andExpect(jsonPath("$.msg").value("2건의 글 가져오기가 완료되었습니다."));
+
+			assertThat(postService.count()).isEqualTo(before + 2);
+
+			Post post = postService.getLatestItem().get();
+			assertThat(post.getTitle()).isEqualTo("가져온 글 2");
+			assertThat(post.getAuthor().getUsername()).isEqualTo("admin");
+		}
+
+		@Test
+		@DisplayName("실패 - 올바르지 않은 줄이 있으면 그 줄에서 멈춘다")
+		void importB() throws Exception {
+			var resultActions = importRequest("admin", """
+				{"title": "가져온 글 1", "content": "내용 1", "published": true, "listed": true}
+				{"title": "", "content": "내용 2", "published": true, "listed": true}
+				""");
+
+			resultActions
+				.andExpect(status().isBadRequest())
+				.andExpect(handler().methodName("importItems"))
+				.andExpect(jsonPath("$.code").value("400-1"))
+				.andExpect(jsonPath("$.msg").value("2번째 줄이 올바르지 않습니다. (앞선 0건은 저장되었습니다.)"));
+		}
+
+		@Test
+		@DisplayName("실패 - 관리자가 아니면 글을 가져올 수 없다")
+		void importC() throws Exception {
+			var resultActions = importRequest("user1", """
+				{"title": "가져온 글 1", "content": "내용 1", "published": true, "listed": true}
+				""");
+
+			resultActions
+				.andExpect(status().isForbidden())
+				.andExpect(jsonPath("$.code").value("403-1"))
+				.andExpect(jsonPath("$.msg").value("관리자만 글을 가져올 수 있습니다."));
+		}
+
+		@Test
+		@DisplayName("성공 - 관리자는 전체 글을 NDJSON 으로 내보낼 수 있다")
+		void exportA() throws Exception {
+			var mvcResult = mvc
+				.perform(
+					get("/api/v1/posts/export")
+						.header("Authorization", "Bearer admin")
+				)
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+			var resultActions = mvc
+				.perform(asyncDispatch(mvcResult))
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(handler().methodName("exportItems"))
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+			var lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+			assertThat(lines).hasSize((int)postService.count());
+			assertThat(lines.getFirst()).contains("\"id\":1", "\"content\":\"저녁 6시까지 모여주세요.\"");
+		}
+
+		@Test
+		@DisplayName("실패 - 관리자가 아니면 글을 내보낼 수 없다")
+		void exportB() throws Exception {
+			var resultActions = mvc
+				.perform(
+					get("/api/v1/posts/export")
+						.header("Authorization", "Bearer user1")
+				)
+				.andDo(print());
+
+			resultActions
+				.andExpect(status().isForbidden())
+				.andExpect(jsonPath("$.code").value("403-1"))
+				.andExpect(jsonPath("$.msg").value("관리자만 글을 내보낼 수 있습니다."));
+		}
+
+		private ResultActions importRequest(String apiKey, String body) throws Exception {
+			return mvc
+				.perform(
+					post("/api/v1/posts/import")
+						.header("Authorization", "Bearer %s".formatted(apiKey))
+						.content(body)
+						.contentType(new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8))
+				)
+				.andDo(print());
+		}
+	}
+
+	@Nested
+	@DisplayName("목록 조회 쿼리의 인덱스 사용 (EXPLAIN)")
+	class queryPlan {
+
+		// 리포지토리 메서드를 실제로 실행해서 Hibernate 가 만든 SQL(작성자 조인, 프로젝션 포함)을 잡고, 그 SQL 을 EXPLAIN 한다.
+		@Test
+		@DisplayName("공개 글 목록/커서 조회는 (listed, id) 인덱스를 사용한다")
+		void planA() {
+			var sql = captureSingle(() -> postRepository.findDtoByListedAndIdGreaterThan(true, 0, PageRequest.ofSize(4)));
+
+			assertThat(explain(sql, true, 0L, 4)).containsIgnoringCase("idx_post_listed_id");
+		}
+
+		@Test
+		@DisplayName("내 글 목록/커서 조회는 (author_id, id) 인덱스를 사용한다")
+		void planB() {
+			var author = memberService.findByUsername("user2").get();
+			var sql = captureSingle(() -> postRepository.findDtoByAuthorAndIdGreaterThan(author, 0, PageRequest.ofSize(4)));
+
+			assertThat(explain(sql, author.getId(), 0L, 4)).containsIgnoringCase("idx_post_author_id");
+		}
+
+		@Test
+		@DisplayName("댓글 목록/커서 조회는 (post_id, id) 인덱스를 사용한다")
+		void planC() {
+			var sql = captureSingle(() -> commentRepository.findDtoByPostIdAndIdGreaterThan(1L, 0, PageRequest.ofSize(30)));
+
+			assertThat(explain(sql, 1L, 0L, 31)).containsIgnoringCase("idx_comment_post_id");
+		}
+
+		private String captureSingle(Runnable query) {
+			var captured = SqlCapture.capture(query);
+			assertThat(captured).hasSize(1);
+			return captured.getFirst();
+		}
+
+		// 바인딩 값은 SQL 에 나오는 ? 순서대로 (조건들, 마지막은 LIMIT)
+		private String explain(String sql, Object... args) {
+			assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(args.length);
+			return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+		}
+	}
 }
@@ -1,5 +1,7 @@
 package com.resttdd.domain.post.comment.controller;
 
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -17,6 +19,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.resttdd.domain.member.member.service.MemberService;
+import com.resttdd.domain.post.comment.dto.CommentDto;
+import com.resttdd.domain.post.comment.service.CommentService;
 import com.resttdd.domain.post.post.service.PostService;
 
 @Transactional
@@ -28,6 +33,10 @@ class ApiV1CommentControllerTest {
 	private MockMvc mvc;
 	@Autowired
 	private PostService postService;
+	@Autowired
+	private CommentService commentService;
+	@Autowired
+	private MemberService memberService;
 
 	@Test
 	@DisplayName("댓글을 작성할 수 있다")
@@ -126,6 +135,274 @@ class ApiV1CommentControllerTest {
 			.andExpect(handler().methodName("getItems"))
 			.andExpect(jsonPath("$.length()").value(2))
 			.andExpect(jsonPath("$[0].id").value(1))
-			.andExpect(jsonPath("$[1].id").value(2));
+			.andExpect(jsonPath("$[1].id").value(2))
+			.andExpect(header().string("X-Has-Next", "false"))
+			.andExpect(header().doesNotExist("X-Next-Cursor"))
+			.andExpect(header().doesNotExist("Link"));
+	}
+
+	@Test
+	@DisplayName("댓글이 바뀌지 않았으면 304 를, 바뀌었으면 새 목록을 받는다")
+	void itemsNotModified() throws Exception {
+		var postId = 1L;
+		var etag = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments".formatted(postId))
+			)
+			.andExpect(status().isOk())
+			.andExpect(header().exists("ETag"))
+			.andReturn()
+			.getResponse()
+			.getHeader("ETag");
+
+		mvc
+			.perform(
+				get("/api/v1/posts/%d/comments".formatted(postId))
+					.header("If-None-Match", etag)
+			)
+			.andDo(print())
+			.andExpect(status().isNotModified())
+			.andExpect(handler().methodName("getItems"));
+
+		commentService.write(postId, memberService.findByUsername("user2").get(), "새 댓글");
+
+		mvc
+			.perform(
+				get("/api/v1/posts/%d/comments".formatted(postId))
+					.header("If-None-Match", etag)
+			)
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", not(etag)))
+			.andExpect(jsonPath("$.length()").value(3));
+	}
+
+	@Test
+	@DisplayName("댓글 목록을 페이지 단위로 조회할 수 있다")
+	void itemsPaged() throws Exception {
+		var postId = 1L;
+		var resultActions = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments?page=2&pageSize=1".formatted(postId))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isOk())
+			.andExpect(handler().methodName("getItems"))
+			.andExpect(jsonPath("$.length()").value(1))
+			.andExpect(jsonPath("$[0].id").value(2))
+			.andExpect(jsonPath("$[0].authorName").value("유저2"));
+	}
+
+	@Test
+	@DisplayName("pageSize 보다 댓글이 많으면 다음 페이지가 있다는 것과 다음 커서를 헤더로 함께 받는다")
+	void itemsHasNext() throws Exception {
+		var postId = 1L;
+		var resultActions = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments?pageSize=1".formatted(postId))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isOk())
+			.andExpect(handler().methodName("getItems"))
+			.andExpect(jsonPath("$.length()").value(1))
+			.andExpect(jsonPath("$[0].id").value(1))
+			.andExpect(header().string("X-Has-Next", "true"))
+			.andExpect(header().string("X-Next-Cursor", "1"))
+			.andExpect(header().string("Link", "</api/v1/posts/1/comments?pageSize=1&after=1>; rel=\"next\""));
+	}
+
+	@Test
+	@DisplayName("page 는 1 이상이어야 한다")
+	void itemsInvalidPage() throws Exception {
+		var postId = 1L;
+		var resultActions = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments?page=0".formatted(postId))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isBadRequest())
+			.andExpect(handler().methodName("getItems"))
+			.andExpect(jsonPath("$.code").value("400-1"))
+			.andExpect(jsonPath("$.msg").value(startsWith("page : Min : ")));
+	}
+
+	@Test
+	@DisplayName("after 로 주어진 댓글 이후의 댓글을 조회할 수 있다")
+	void itemsAfter() throws Exception {
+		var postId = 1L;
+		var resultActions = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments?after=1".formatted(postId))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isOk())
+			.andExpect(handler().methodName("getItems"))
+			.andExpect(jsonPath("$.length()").value(1))
+			.andExpect(jsonPath("$[0].id").value(2));
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 글의 댓글 목록은 조회할 수 없다")
+	void itemsNotFound() throws Exception {
+		var resultActions = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments".formatted(9999999L))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.code").value("404-1"))
+			.andExpect(jsonPath("$.msg").value("존재하지 않는 게시글입니다."));
+	}
+
+	@Test
+	@DisplayName("댓글 단건을 조회할 수 있다")
+	void item() throws Exception {
+		var postId = 1L;
+		var commentId = 2L;
+		var resultActions = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments/%d".formatted(postId, commentId))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isOk())
+			.andExpect(handler().methodName("getItem"))
+			.andExpect(jsonPath("$.id").value(commentId))
+			.andExpect(jsonPath("$.postId").value(postId))
+			.andExpect(jsonPath("$.content").value("공격수 자리 있나요?"));
+	}
+
+	@Test
+	@DisplayName("다른 글에 달린 댓글은 해당 글의 댓글로 조회할 수 없다")
+	void itemOfOtherPost() throws Exception {
+		var postId = 2L;
+		var commentId = 1L;
+		var resultActions = mvc
+			.perform(
+				get("/api/v1/posts/%d/comments/%d".formatted(postId, commentId))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isNotFound())
+			.andExpect(handler().methodName("getItem"))
+			.andExpect(jsonPath("$.code").value("404-2"))
+			.andExpect(jsonPath("$.msg").value("존재하지 않는 댓글입니다."));
+	}
+
+	@Test
+	@DisplayName("댓글 여러 개를 한 번에 작성할 수 있다")
+	void writeBatch() throws Exception {
+		var apiKey = "user2";
+		var postId = 3L;
+		var resultActions = mvc
+			.perform(
+				post("/api/v1/posts/%d/comments/batch".formatted(postId))
+					.header("Authorization", "Bearer " + apiKey)
+					.content("""
+						[
+							{ "content": "배치 댓글 1" },
+							{ "content": "배치 댓글 2" },
+							{ "content": "배치 댓글 3" }
+						]
+						""")
+					.contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isCreated())
+			.andExpect(handler().handlerType(ApiV1CommentController.class))
+			.andExpect(handler().methodName("writeBatch"))
+			.andExpect(jsonPath("$.code").value("201-1"))
+			.andExpect(jsonPath("$.msg").value("3개의 댓글 작성이 완료되었습니다."))
+			.andExpect(jsonPath("$.data.length()").value(3));
+
+		var comments = commentService.getItemsAfter(postId, 0, 10);
+		assertThat(comments).extracting(CommentDto::getContent)
+			.containsExactly("배치 댓글 1", "배치 댓글 2", "배치 댓글 3");
+		assertThat(comments).extracting(CommentDto::getAuthorName).containsOnly("유저2");
+	}
+
+	@Test
+	@DisplayName("댓글 일괄 작성 - 존재하지 않는 글에는 작성할 수 없다")
+	void writeBatchNotFound() throws Exception {
+		var resultActions = mvc
+			.perform(
+				post("/api/v1/posts/%d/comments/batch".formatted(100_000L))
+					.header("Authorization", "Bearer user1")
+					.content("""
+						[
+							{ "content": "배치 댓글" }
+						]
+						""")
+					.contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isNotFound())
+			.andExpect(handler().methodName("writeBatch"))
+			.andExpect(jsonPath("$.code").value("404-1"))
+			.andExpect(jsonPath("$.msg").value("존재하지 않는 게시글입니다."));
+	}
+
+	@Test
+	@DisplayName("댓글을 작성하면 글의 댓글 수와 최신 댓글이 갱신된다")
+	void writeUpdatesSummary() throws Exception {
+		var postId = 1L;
+		var commentCount = postService.getItem(postId).get().getCommentCount();
+
+		mvc
+			.perform(
+				post("/api/v1/posts/%d/comments".formatted(postId))
+					.header("Authorization", "Bearer user2")
+					.content("""
+						{
+							"content" : "새 댓글"
+						}
+						""")
+					.contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+			)
+			.andDo(print())
+			.andExpect(status().isCreated());
+
+		var post = postService.getListedItems(1, 3, "title", "").getContent().getFirst();
+		assertThat(post.getId()).isEqualTo(postId);
+		assertThat(post.getCommentCount()).isEqualTo(commentCount + 1);
+		assertThat(post.getLatestCommentContent()).isEqualTo("새 댓글");
+		assertThat(post.getLatestCommentAuthorName()).isEqualTo("유저2");
+	}
+
+	@Test
+	@DisplayName("최신 댓글을 삭제하면 남은 댓글 중 가장 최근 것이 최신 댓글이 된다")
+	void deleteUpdatesSummary() throws Exception {
+		var postId = 1L;
+		var commentId = 2L;
+
+		mvc
+			.perform(
+				MockMvcRequestBuilders.delete("/api/v1/posts/%d/comments/%d".formatted(postId, commentId))
+					.header("Authorization", "Bearer user2")
+			)
+			.andDo(print())
+			.andExpect(status().isOk());
+
+		var post = postService.getListedItems(1, 3, "title", "").getContent().getFirst();
+		assertThat(post.getId()).isEqualTo(postId);
+		assertThat(post.getCommentCount()).isEqualTo(1);
+		assertThat(post.getLatestCommentContent()).isEqualTo("저 참석하겠습니다.");
+		assertThat(post.getLatestCommentAuthorName()).isEqualTo("유저1");
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.resttdd.global.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// Flyway 도입 전(ddl-auto: update, IDENTITY id) 스키마로 만들어진 DB 가 마이그레이션으로 현재 스키마까지 올라오는지 확인한다.
+class LegacySchemaMigrationTest {
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:legacy_%d;MODE=MySQL;DB_CLOSE_DELAY=-1".formatted(System.nanoTime()), "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+
+		// 기존 엔티티로 ddl-auto 가 만들던 스키마
+		jdbcTemplate.execute("""
+			create table member (
+				id bigint generated by default as identity,
+				created_date timestamp(6),
+				modified_date timestamp(6),
+				api_key varchar(100) unique,
+				nickname varchar(100),
+				password varchar(100),
+				username varchar(100) unique,
+				primary key (id)
+			);
+			create table post (
+				id bigint generated by default as identity,
+				created_date timestamp(6),
+				modified_date timestamp(6),
+				listed boolean not null,
+				published boolean not null,
+				author_id bigint,
+				content varchar(255),
+				title varchar(255),
+				primary key (id),
+				foreign key (author_id) references member (id)
+			);
+			create table comment (
+				id bigint generated by default as identity,
+				created_date timestamp(6),
+				modified_date timestamp(6),
+				author_id bigint,
+				post_id bigint,
+				content varchar(255),
+				primary key (id),
+				foreign key (author_id) references member (id),
+				foreign key (post_id) references post (id)
+			);
+			""");
+
+		jdbcTemplate.execute("""
+			insert into member (created_date, modified_date, api_key, nickname, password, username)
+			values (now(), now(), 'user1', '유저1', 'user11234', 'user1'),
+				(now(), now(), 'user2', '유저2', 'user21234', 'user2');
+			insert into post (created_date, modified_date, listed, published, author_id, content, title)
+			values (now(), now(), true, true, 1, '내용', '제목');
+			insert into comment (created_date, modified_date, author_id, post_id, content)
+			values (now(), now(), 1, 1, '첫 댓글'),
+				(now(), now(), 2, 1, '마지막 댓글');
+			""");
+	}
+
+	@Test
+	@DisplayName("기존 스키마의 DB 도 시퀀스, 비정규화 컬럼, 인덱스가 갖춰진 현재 스키마로 마이그레이션된다")
+	void migrateLegacySchema() {
+		migrate();
+
+		assertThat(jdbcTemplate.queryForMap(
+			"select comment_count, latest_comment_content, latest_comment_author_name, comment_version, view_count"
+				+ " from post where id = 1"))
+			.containsEntry("COMMENT_COUNT", 2L)
+			.containsEntry("LATEST_COMMENT_CONTENT", "마지막 댓글")
+			.containsEntry("LATEST_COMMENT_AUTHOR_NAME", "유저2")
+			.containsEntry("COMMENT_VERSION", 0L)
+			.containsEntry("VIEW_COUNT", 0L);
+
+		// 새로 발급되는 id 가 기존 id 와 겹치지 않는다.
+		assertThat(jdbcTemplate.queryForObject("select next value for member_seq", Long.class)).isGreaterThan(2);
+		assertThat(jdbcTemplate.queryForObject("select next value for post_seq", Long.class)).isGreaterThan(1);
+		assertThat(jdbcTemplate.queryForObject("select next value for comment_seq", Long.class)).isGreaterThan(2);
+
+		assertThat(jdbcTemplate.queryForList("select index_name from information_schema.indexes", String.class))
+			.map(String::toLowerCase)
+			.contains("idx_post_listed_id", "idx_post_author_id", "idx_comment_post_id");
+
+		// 평문 비밀번호는 마이그레이션에서 건드리지 않는다. (로그인할 때 PasswordHasher 로 해시된다)
+		assertThat(jdbcTemplate.queryForList("select password from member", String.class))
+			.containsExactlyInAnyOrder("user11234", "user21234");
+	}
+
+	@Test
+	@DisplayName("빈 DB 에는 V1 부터 전체 마이그레이션이 적용된다")
+	void migrateEmpty() {
+		var empty = new DriverManagerDataSource(
+			"jdbc:h2:mem:empty_%d;MODE=MySQL;DB_CLOSE_DELAY=-1".formatted(System.nanoTime()), "sa", "");
+
+		assertThatCode(() -> flyway(empty).migrate()).doesNotThrowAnyException();
+		assertThat(new JdbcTemplate(empty).queryForObject("select count(*) from post", Long.class)).isZero();
+	}
+
+	private void migrate() {
+		flyway(dataSource).migrate();
+	}
+
+	// application.yml 의 spring.flyway 설정과 같게 맞춘다. (Java 마이그레이션은 스프링이 빈으로 넘겨주던 것을 직접 넘긴다)
+	private static Flyway flyway(DriverManagerDataSource dataSource) {
+		return Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/migration")
+			.javaMigrations(new V3__Align_id_sequences())
+			.baselineOnMigrate(true)
+			.baselineVersion("1")
+			.load();
+	}
+}